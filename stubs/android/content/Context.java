@@ -439,10 +439,14 @@ public abstract java.lang.String getPackageCodePath();
  * <p>If a preferences file by this name does not exist, it will be created when you retrieve an
  * editor ({@link android.content.SharedPreferences#edit() SharedPreferences#edit()}) and then commit changes ({@link android.content.SharedPreferences.Editor#commit() SharedPreferences.Editor#commit()} or {@link android.content.SharedPreferences.Editor#apply() SharedPreferences.Editor#apply()}).
  *
+ * <p>Large preferences files that change often should be opened with
+ * {@link #MODE_BINARY_PREFERENCES}, so that each change writes only the keys it
+ * modified.
+ *
  * @param name Desired preferences file.
  * @param mode Operating mode.
  *
- * Value is either <code>0</code> or a combination of {@link android.content.Context#MODE_PRIVATE}, {@link android.content.Context#MODE_WORLD_READABLE}, {@link android.content.Context#MODE_WORLD_WRITEABLE}, and {@link android.content.Context#MODE_MULTI_PROCESS}
+ * Value is either <code>0</code> or a combination of {@link android.content.Context#MODE_PRIVATE}, {@link android.content.Context#MODE_WORLD_READABLE}, {@link android.content.Context#MODE_WORLD_WRITEABLE}, {@link android.content.Context#MODE_MULTI_PROCESS}, and {@link android.content.Context#MODE_BINARY_PREFERENCES}
  * @return The single {@link android.content.SharedPreferences SharedPreferences} instance that can be used
  *         to retrieve and modify the preference values.
  *
@@ -483,6 +487,27 @@ public abstract boolean moveSharedPreferencesFrom(android.content.Context source
 
 public abstract boolean deleteSharedPreferences(java.lang.String name);
 
+/**
+ * Convert an existing shared preferences file stored in the binary format selected by
+ * {@link #MODE_BINARY_PREFERENCES} back to an XML file. This is the only way a binary
+ * file is converted back; opening it without the flag does not change its format.
+ * Use it before handing the file to code that reads the XML file directly, or to
+ * downgrade to a version of the app that does not use the flag.
+ * <p>
+ * If the preferences are loaded in this process, pending writes are completed first,
+ * and the loaded {@link android.content.SharedPreferences SharedPreferences} instance keeps
+ * working and writes XML from then on.
+ * </p>
+ *
+ * @param name The name of the shared preferences file.
+ * @return {@code true} if the file was converted, was already XML, or does not
+ *         exist, otherwise {@code false}.
+ * @see #getSharedPreferences(String, int)
+ * @apiSince R
+ */
+
+public abstract boolean convertSharedPreferencesToXml(java.lang.String name);
+
 /**
  * Open a private file associated with this Context's application package
  * for reading.
@@ -3907,6 +3932,43 @@ public static final java.lang.String MIDI_SERVICE = "midi";
 
 public static final int MODE_APPEND = 32768; // 0x8000
 
+/**
+ * Shared preferences flag: when set, the preferences are stored in a compact binary
+ * log instead of an XML file. Each {@link android.content.SharedPreferences.Editor#commit() SharedPreferences.Editor#commit()}
+ * or {@link android.content.SharedPreferences.Editor#apply() SharedPreferences.Editor#apply()}
+ * appends only the keys it changed, rather than rewriting every key, and the log is
+ * compacted on a background thread once superseded records make up most of it. Calls
+ * to {@code apply()} made in quick succession are coalesced into a single append and
+ * a single sync. When the log is opened, only its key index is read; values are
+ * decoded the first time they are read, except by
+ * {@link android.content.SharedPreferences#getAll() SharedPreferences#getAll()}, which
+ * decodes them all.
+ *
+ * <p>The format of a file is a property of the file, not of the call that opens it.
+ * An existing XML file is converted when it is opened with this flag. A binary file
+ * stays binary when it is opened without the flag, for example by
+ * {@link android.preference.PreferenceManager#getDefaultSharedPreferences PreferenceManager#getDefaultSharedPreferences},
+ * a library or a backup agent; such callers read and write it like any other
+ * preferences file. It is only converted back to XML by
+ * {@link #convertSharedPreferencesToXml(java.lang.String)}.
+ *
+ * <p>Only one {@link android.content.SharedPreferences SharedPreferences} instance exists per
+ * name in a process. If the name has already been loaded from an XML file without this
+ * flag, a later call with the flag returns the same instance, which converts the file
+ * at its next write. The {@link android.content.SharedPreferences SharedPreferences},
+ * {@link android.content.SharedPreferences.Editor SharedPreferences.Editor} and
+ * {@link android.content.SharedPreferences.OnSharedPreferenceChangeListener SharedPreferences.OnSharedPreferenceChangeListener}
+ * contracts are unchanged; a successful {@code commit()} is durable once it returns.
+ *
+ * <p>This flag has no effect on files and databases.
+ *
+ * @see #getSharedPreferences(String, int)
+ * @see #convertSharedPreferencesToXml(String)
+ * @apiSince R
+ */
+
+public static final int MODE_BINARY_PREFERENCES = 64; // 0x40
+
 /**
  * Database open flag: when set, the database is opened with write-ahead
  * logging enabled by default.
@@ -122,6 +122,10 @@ public boolean moveSharedPreferencesFrom(android.content.Context sourceContext,
 
 public boolean deleteSharedPreferences(java.lang.String name) { throw new RuntimeException("Stub!"); }
 
+/** @apiSince R */
+
+public boolean convertSharedPreferencesToXml(java.lang.String name) { throw new RuntimeException("Stub!"); }
+
 /** @apiSince 1 */
 
 public java.io.FileInputStream openFileInput(java.lang.String name) throws java.io.FileNotFoundException { throw new RuntimeException("Stub!"); }
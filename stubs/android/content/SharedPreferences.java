@@ -31,6 +31,8 @@ import java.util.Set;
  * which might slow down an app. Frequently changing properties or properties where loss can be
  * tolerated should use other mechanisms. For more details read the comments on
  * {@link android.content.SharedPreferences.Editor#commit() Editor#commit()} and {@link android.content.SharedPreferences.Editor#apply() Editor#apply()}.
+ * Preferences opened with {@link android.content.Context#MODE_BINARY_PREFERENCES Context#MODE_BINARY_PREFERENCES}
+ * write only the changed keys on each commit.
  *
  * <p><em>Note: This class does not support use across multiple processes.</em>
  *
@@ -29,6 +29,16 @@ import android.database.sqlite.SQLiteException;
  * will be allocated by the producer, filled with data, and then sent to the
  * consumer for reading.
  * </p>
+ * <p>
+ * A window created with {@link #newSharedWindow(java.lang.String,int)} keeps its rows in an
+ * {@link android.os.SharedMemory SharedMemory} region instead of a private buffer. Writing
+ * such a window to a {@link android.os.Parcel Parcel} transfers only the region's file
+ * descriptor, and the receiver maps the same pages read-only rather than copying every
+ * row. Readers of any window can avoid per-cell allocation with
+ * {@link #copyBlobToBuffer(int,int,java.nio.ByteBuffer)} and
+ * {@link #copyStringToBuffer(int,int,android.database.CharArrayBuffer)}; readers of a shared
+ * window can also use {@link #getBlobView(int,int)} to access a blob in place.
+ * </p>
  * @apiSince 1
  */
 
@@ -290,6 +300,68 @@ public int getType(int row, int column) { throw new RuntimeException("Stub!"); }
 
 public byte[] getBlob(int row, int column) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Returns the size in bytes of the value {@link #getBlob(int,int)} would return for the
+ * field at the specified row and column index, or -1 if the field is of type
+ * {@link android.database.Cursor#FIELD_TYPE_NULL Cursor#FIELD_TYPE_NULL}.
+ * <p>
+ * If the field is of type {@link android.database.Cursor#FIELD_TYPE_INTEGER Cursor#FIELD_TYPE_INTEGER} or
+ * {@link android.database.Cursor#FIELD_TYPE_FLOAT Cursor#FIELD_TYPE_FLOAT}, then a {@link android.database.sqlite.SQLiteException SQLiteException} is thrown.
+ * </p>
+ *
+ * @param row The zero-based row index.
+ * @param column The zero-based column index.
+ * @return The size of the field in bytes, or -1 if it is null.
+ * @apiSince R
+ */
+
+public int getBlobLength(int row, int column) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Copies the value of the field at the specified row and column index into a
+ * caller-supplied buffer, without allocating a byte array.
+ * <p>
+ * The bytes copied are the ones {@link #getBlob(int,int)} would return. They are written
+ * starting at the buffer's current position, which is advanced by the number of
+ * bytes copied. If the buffer has fewer bytes remaining than the value's length,
+ * nothing is copied and a {@link java.nio.BufferOverflowException BufferOverflowException}
+ * is thrown; use {@link #getBlobLength(int,int)} to size the buffer.
+ * </p>
+ *
+ * @param row The zero-based row index.
+ * @param column The zero-based column index.
+ * @param buffer The buffer to copy the value into.
+ * This value must never be {@code null}.
+ * @return The number of bytes copied, or -1 if the field is null.
+ * @throws java.nio.BufferOverflowException if the value does not fit in the buffer.
+ * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+ * @apiSince R
+ */
+
+public int copyBlobToBuffer(int row, int column, @androidx.annotation.NonNull java.nio.ByteBuffer buffer) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a read-only view of the value of the field at the specified row and column
+ * index, backed directly by this window's shared memory.
+ * <p>
+ * The view's position is 0 and its limit is the value's length. No bytes are copied,
+ * so the view is only valid until this window is cleared, closed, or released; reading
+ * it afterwards has undefined results. Copy the bytes out if they need to outlive the
+ * window.
+ * </p>
+ *
+ * @param row The zero-based row index.
+ * @param column The zero-based column index.
+ * @return A read-only view of the field, or null if the field is null.
+ * @throws java.lang.IllegalStateException if this window is not backed by
+ * {@link android.os.SharedMemory SharedMemory}.
+ * @see #isShared()
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public java.nio.ByteBuffer getBlobView(int row, int column) { throw new RuntimeException("Stub!"); }
+
 /**
  * Gets the value of the field at the specified row and column index as a string.
  * <p>
@@ -515,6 +587,67 @@ public boolean putDouble(double value, int row, int column) { throw new RuntimeE
 
 public boolean putNull(int row, int column) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Creates a new empty cursor window whose rows are stored in a newly created
+ * {@link android.os.SharedMemory SharedMemory} region.
+ * <p>
+ * The region is allocated with its full size up front and pages are committed as rows
+ * are added. When the window is written to a {@link android.os.Parcel Parcel}, only the
+ * region is transferred; the receiving process gets a read-only window mapped onto the
+ * same memory, so sending a shared window costs the same regardless of how many rows
+ * it holds. The producer must not modify the window while a consumer may be reading it.
+ * </p>
+ *
+ * @param name The name of the cursor window and its shared memory region, or null if none.
+ * @param windowSizeBytes Size of the shared memory region in bytes.
+ * Value is 1 or greater
+ * @return This value will never be {@code null}.
+ * @throws android.system.ErrnoException if the shared memory region could not be created.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public static android.database.CursorWindow newSharedWindow(@androidx.annotation.Nullable java.lang.String name, int windowSizeBytes) throws android.system.ErrnoException { throw new RuntimeException("Stub!"); }
+
+/**
+ * Creates a read-only cursor window over an existing {@link android.os.SharedMemory SharedMemory}
+ * region that was filled by a window created with {@link #newSharedWindow(java.lang.String,int)}.
+ * <p>
+ * The region is mapped read-only. The returned window does not take ownership of
+ * {@code memory}; the caller may close it once the window has been created.
+ * </p>
+ *
+ * @param memory The shared memory region holding the window's rows.
+ * This value must never be {@code null}.
+ * @return This value will never be {@code null}.
+ * @throws android.system.ErrnoException if the region could not be mapped.
+ * @throws java.lang.IllegalArgumentException if the region does not contain a cursor window.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public static android.database.CursorWindow newFromSharedMemory(@androidx.annotation.NonNull android.os.SharedMemory memory) throws android.system.ErrnoException { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether this window's rows are stored in {@link android.os.SharedMemory SharedMemory}.
+ *
+ * @return True if the window was created by {@link #newSharedWindow(java.lang.String,int)} or
+ * {@link #newFromSharedMemory(android.os.SharedMemory)}, or was received from a
+ * {@link android.os.Parcel Parcel} holding such a window.
+ * @apiSince R
+ */
+
+public boolean isShared() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether this window can be modified. Windows received from another
+ * process and windows created by {@link #newFromSharedMemory(android.os.SharedMemory)}
+ * are read-only; all {@code put} methods and {@link #allocRow()} return false on them.
+ * @apiSince R
+ */
+
+public boolean isReadOnly() { throw new RuntimeException("Stub!"); }
+
 /** @apiSince 1 */
 
 public static android.database.CursorWindow newFromParcel(android.os.Parcel p) { throw new RuntimeException("Stub!"); }
@@ -523,7 +656,12 @@ public static android.database.CursorWindow newFromParcel(android.os.Parcel p) {
 
 public int describeContents() { throw new RuntimeException("Stub!"); }
 
-/** @apiSince 1 */
+/**
+ * Writes this window to a {@link android.os.Parcel Parcel}. A window that is
+ * {@link #isShared() shared} writes only its {@link android.os.SharedMemory SharedMemory}
+ * region; other windows copy their rows into the parcel.
+ * @apiSince 1
+ */
 
 public void writeToParcel(android.os.Parcel dest, int flags) { throw new RuntimeException("Stub!"); }
 
@@ -814,6 +814,49 @@ public android.database.Cursor rawQuery(java.lang.String sql, java.lang.String[]
 
 public android.database.Cursor rawQuery(java.lang.String sql, java.lang.String[] selectionArgs, android.os.CancellationSignal cancellationSignal) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Runs the provided SQL and returns a forward-only cursor that steps the statement
+ * directly, without filling a {@link android.database.CursorWindow CursorWindow} and
+ * without counting the result set first.
+ *
+ * <p>Use this for large sequential scans where the time to the first row and bounded
+ * memory matter more than random access. The returned cursor holds a database
+ * connection until it is closed, and its {@link android.database.Cursor#getCount() Cursor#getCount()}
+ * returns the number of rows read so far rather than the size of the result set; see
+ * {@link android.database.sqlite.SQLiteStreamingCursor SQLiteStreamingCursor}.
+ *
+ * @param sql the SQL query. The SQL string must not be ; terminated
+ * This value must never be {@code null}.
+ * @param selectionArgs You may include ?s in where clause in the query,
+ *     which will be replaced by the values from selectionArgs. The
+ *     values will be bound as Strings.
+ * This value may be {@code null}.
+ * @param cancellationSignal A signal to cancel the operation in progress, or null if none.
+ * If the operation is canceled, then {@link android.os.OperationCanceledException OperationCanceledException} will be thrown
+ * when the query is executed or when the cursor next steps.
+ * @return A cursor positioned before the first row.
+ * This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.database.sqlite.SQLiteStreamingCursor rawQueryStreaming(@androidx.annotation.NonNull java.lang.String sql, @androidx.annotation.Nullable java.lang.String[] selectionArgs, @androidx.annotation.Nullable android.os.CancellationSignal cancellationSignal) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Queries the given table and returns a forward-only cursor that steps the statement
+ * directly. The arguments have the same meaning as for
+ * {@link #query(boolean,java.lang.String,java.lang.String[],java.lang.String,java.lang.String[],java.lang.String,java.lang.String,java.lang.String,java.lang.String,android.os.CancellationSignal)}.
+ *
+ * @see #rawQueryStreaming(java.lang.String,java.lang.String[],android.os.CancellationSignal)
+ * @param table This value must never be {@code null}.
+ * @return A cursor positioned before the first row.
+ * This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.database.sqlite.SQLiteStreamingCursor queryStreaming(boolean distinct, @androidx.annotation.NonNull java.lang.String table, java.lang.String[] columns, java.lang.String selection, java.lang.String[] selectionArgs, java.lang.String groupBy, java.lang.String having, java.lang.String orderBy, java.lang.String limit, @androidx.annotation.Nullable android.os.CancellationSignal cancellationSignal) { throw new RuntimeException("Stub!"); }
+
 /**
  * Runs the provided SQL and returns a cursor over the result set.
  *
@@ -849,6 +892,53 @@ public android.database.Cursor rawQueryWithFactory(android.database.sqlite.SQLit
 
 public android.database.Cursor rawQueryWithFactory(android.database.sqlite.SQLiteDatabase.CursorFactory cursorFactory, java.lang.String sql, java.lang.String[] selectionArgs, java.lang.String editTable, android.os.CancellationSignal cancellationSignal) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Inserts rows supplied by {@code binder} into {@code table} with a single compiled
+ * statement, committing every {@code chunkSize} rows.
+ * <p>
+ * This is considerably faster than calling {@link #insert} in a loop, even inside a
+ * transaction: the INSERT is compiled once, values are bound without building a
+ * {@link android.content.ContentValues ContentValues} per row, and the number of rows held in
+ * one transaction is bounded. Each chunk is committed in its own transaction, so other
+ * connections can make progress between chunks. If the calling thread already has a
+ * transaction open, all rows are inserted in that transaction instead and
+ * {@code chunkSize} is ignored.
+ * </p>
+ *
+ * @param table the table to insert the rows into.
+ * This value must never be {@code null}.
+ * @param columns the columns to insert, in the order {@code binder} binds them.
+ * This value must never be {@code null}.
+ * @param conflictAlgorithm for insert conflict resolver, one of the
+ *        {@code CONFLICT_} constants, for example {@link #CONFLICT_NONE}.
+ * @param binder Supplies the rows to insert.
+ * This value must never be {@code null}.
+ * @param chunkSize the number of rows to insert per transaction.
+ * Value is 1 or greater
+ * @return the number of rows inserted.
+ * @throws android.database.SQLException If a row could not be inserted. The chunk that
+ *         contained the failing row is rolled back; earlier chunks stay committed.
+ * @apiSince R
+ */
+
+public long bulkInsert(@androidx.annotation.NonNull java.lang.String table, @androidx.annotation.NonNull java.lang.String[] columns, int conflictAlgorithm, @androidx.annotation.NonNull android.database.sqlite.SQLiteStatement.RowBinder binder, int chunkSize) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Inserts the rows of {@code batch} into {@code table}, committing every
+ * {@code chunkSize} rows. Column {@code i} of the batch is inserted into
+ * {@code columns[i]}.
+ *
+ * @param table This value must never be {@code null}.
+ * @param columns This value must never be {@code null}.
+ * @param batch This value must never be {@code null}.
+ * @param chunkSize Value is 1 or greater
+ * @return the number of rows inserted.
+ * @see #bulkInsert(java.lang.String,java.lang.String[],int,android.database.sqlite.SQLiteStatement.RowBinder,int)
+ * @apiSince R
+ */
+
+public long bulkInsert(@androidx.annotation.NonNull java.lang.String table, @androidx.annotation.NonNull java.lang.String[] columns, int conflictAlgorithm, @androidx.annotation.NonNull android.database.sqlite.SQLiteStatement.ColumnBatch batch, int chunkSize) { throw new RuntimeException("Stub!"); }
+
 /**
  * Convenience method for inserting a row into the database.
  *
@@ -1153,6 +1243,9 @@ public void setLocale(java.util.Locale locale) { throw new RuntimeException("Stu
  *<p>
  * This method is thread-safe.
  *
+ * To size the cache beyond {@link #MAX_SQL_CACHE_SIZE}, set it when opening the database
+ * with {@link android.database.sqlite.SQLiteDatabase.OpenParams.Builder#setStatementCacheSize(int) OpenParams.Builder#setStatementCacheSize(int)}.
+ *
  * @param cacheSize the size of the cache. can be (0 to {@link #MAX_SQL_CACHE_SIZE})
  * @throws java.lang.IllegalStateException if input cacheSize > {@link #MAX_SQL_CACHE_SIZE}.
  * @apiSince 11
@@ -1160,6 +1253,24 @@ public void setLocale(java.util.Locale locale) { throw new RuntimeException("Stu
 
 public void setMaxSqlCacheSize(int cacheSize) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Returns the hit, miss, eviction and compile-time counters of the prepared-statement
+ * caches of this database's connections, summed over every connection in the pool,
+ * including connections that have since been closed.
+ * <p>
+ * Each connection keeps its own least-recently-used cache of compiled statements, sized
+ * by {@link android.database.sqlite.SQLiteDatabase.OpenParams.Builder#setStatementCacheSize(int) OpenParams.Builder#setStatementCacheSize(int)}
+ * or {@link #setMaxSqlCacheSize(int)}. A statement whose SQL text is in the cache of the
+ * connection it runs on is reused without being compiled again.
+ * </p>
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.database.sqlite.SQLiteStatementCacheStats getStatementCacheStats() { throw new RuntimeException("Stub!"); }
+
 /**
  * Sets whether foreign key constraints are enabled for the database.
  * <p>
@@ -1295,6 +1406,84 @@ public void disableWriteAheadLogging() { throw new RuntimeException("Stub!"); }
 
 public boolean isWriteAheadLoggingEnabled() { throw new RuntimeException("Stub!"); }
 
+/**
+ * Runs the provided SQL on one of the database's read connections and completes the
+ * returned future with a {@link android.database.Cursor Cursor} over the result set.
+ * <p>
+ * Queries are queued in one of two lanes selected by {@code priority}. Each lane runs
+ * its queries on its own threads, in the order they were submitted, and may use at most
+ * the number of read connections configured for it with
+ * {@link android.database.sqlite.SQLiteDatabase.OpenParams.Builder#setReadConnectionPoolSize(int,int) OpenParams.Builder#setReadConnectionPoolSize(int, int)},
+ * so long background reads cannot take every connection away from interactive ones.
+ * The query is executed and the cursor's first window is filled on the lane's thread
+ * before the future completes; later windows are filled on whichever thread moves the
+ * cursor.
+ * </p><p>
+ * Concurrent reads require write-ahead logging. On a database without it, both lanes
+ * share the primary connection and queries run one at a time.
+ * </p><p>
+ * If {@code cancellationSignal} is canceled before the query starts, the query is
+ * removed from its lane; if it is canceled while the query runs, the query is
+ * interrupted. In both cases the future completes exceptionally with
+ * {@link android.os.OperationCanceledException OperationCanceledException}. Canceling the
+ * returned future has the same effect as canceling the signal. If the future completes
+ * normally, the caller owns the cursor and must close it.
+ * </p>
+ *
+ * @param sql the SQL query. The SQL string must not be ; terminated
+ * This value must never be {@code null}.
+ * @param selectionArgs You may include ?s in where clause in the query,
+ *     which will be replaced by the values from selectionArgs. The
+ *     values will be bound as Strings.
+ * This value may be {@code null}.
+ * @param priority the lane to run the query in.
+ * Value is {@link android.database.sqlite.SQLiteDatabase#QUERY_PRIORITY_INTERACTIVE}, or {@link android.database.sqlite.SQLiteDatabase#QUERY_PRIORITY_BACKGROUND}
+ * @param cancellationSignal A signal to cancel the operation in progress, or null if none.
+ * This value may be {@code null}.
+ * @return This value will never be {@code null}.
+ * @see #getQueryLaneStats(int)
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public java.util.concurrent.CompletableFuture<android.database.Cursor> rawQueryAsync(@androidx.annotation.NonNull java.lang.String sql, @androidx.annotation.Nullable java.lang.String[] selectionArgs, int priority, @androidx.annotation.Nullable android.os.CancellationSignal cancellationSignal) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the queue-wait and execution time counters of one of the lanes used by
+ * {@link #rawQueryAsync(java.lang.String,java.lang.String[],int,android.os.CancellationSignal)}.
+ *
+ * @param priority Value is {@link android.database.sqlite.SQLiteDatabase#QUERY_PRIORITY_INTERACTIVE}, or {@link android.database.sqlite.SQLiteDatabase#QUERY_PRIORITY_BACKGROUND}
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.database.sqlite.SQLiteQueryLaneStats getQueryLaneStats(int priority) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets a listener to be told about statements executed on this database that take
+ * longer than {@code thresholdMillis}, replacing any previous listener.
+ * <p>
+ * Timing and row counters are collected for every statement and compared with the
+ * threshold when the statement finishes; statements under the threshold cost only the
+ * comparison. For statements over it, a {@link android.database.sqlite.SQLiteQueryReport SQLiteQueryReport}
+ * is built and delivered on {@code executor}, off the thread that ran the statement.
+ * If {@code captureQueryPlan} is true, the report also carries the statement's
+ * {@code EXPLAIN QUERY PLAN} output, which is obtained on the executor.
+ * </p>
+ *
+ * @param executor The executor the listener is called on.
+ * This value may be {@code null} only if {@code listener} is null.
+ * @param listener The listener, or null to stop reporting slow statements.
+ * This value may be {@code null}.
+ * @param thresholdMillis Statements taking longer than this are reported.
+ * Value is 0 or greater
+ * @param captureQueryPlan Whether to include the query plan in reports.
+ * @apiSince R
+ */
+
+public void setSlowQueryListener(@androidx.annotation.Nullable java.util.concurrent.Executor executor, @androidx.annotation.Nullable android.database.sqlite.SQLiteDatabase.SlowQueryListener listener, long thresholdMillis, boolean captureQueryPlan) { throw new RuntimeException("Stub!"); }
+
 /**
  * Returns list of full pathnames of all attached databases including the main database
  * by executing 'pragma database_list' on the database.
@@ -1424,6 +1613,17 @@ public static final int ENABLE_WRITE_AHEAD_LOGGING = 536870912; // 0x20000000
 
 public static final int MAX_SQL_CACHE_SIZE = 100; // 0x64
 
+/**
+ * Absolute max value that can be set by
+ * {@link android.database.sqlite.SQLiteDatabase.OpenParams.Builder#setStatementCacheSize(int) OpenParams.Builder#setStatementCacheSize(int)}.
+ *
+ * Each prepared-statement is between 1K - 6K, so a full cache of this size may use
+ * several megabytes of native memory per connection.
+ * @apiSince R
+ */
+
+public static final int MAX_STATEMENT_CACHE_SIZE = 2000; // 0x7d0
+
 /**
  * Open flag: Flag for {@link #openDatabase} to open the database without support for
  * localized collators.
@@ -1454,6 +1654,24 @@ public static final int OPEN_READONLY = 1; // 0x1
 
 public static final int OPEN_READWRITE = 0; // 0x0
 
+/**
+ * Query priority: the query runs in the background lane of
+ * {@link #rawQueryAsync(java.lang.String,java.lang.String[],int,android.os.CancellationSignal)},
+ * intended for long analytical reads, exports and prefetching.
+ * @apiSince R
+ */
+
+public static final int QUERY_PRIORITY_BACKGROUND = 1; // 0x1
+
+/**
+ * Query priority: the query runs in the interactive lane of
+ * {@link #rawQueryAsync(java.lang.String,java.lang.String[],int,android.os.CancellationSignal)},
+ * intended for short reads whose results the user is waiting for.
+ * @apiSince R
+ */
+
+public static final int QUERY_PRIORITY_INTERACTIVE = 0; // 0x0
+
 /**
  * Maximum Length Of A LIKE Or GLOB Pattern
  * The pattern matching algorithm used in the default LIKE and GLOB implementation
@@ -1567,6 +1785,38 @@ public android.database.DatabaseErrorHandler getErrorHandler() { throw new Runti
 
 public long getIdleConnectionTimeout() { throw new RuntimeException("Stub!"); }
 
+/**
+ * Returns the maximum number of read connections, or -1 if not set.
+ *
+ * @see android.database.sqlite.SQLiteDatabase.OpenParams.Builder#setReadConnectionPoolSize(int,int)
+ * @return Value is -1 or greater
+ * @apiSince R
+ */
+
+public int getReadConnectionPoolSize() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the maximum number of read connections that background queries may use at
+ * the same time, or -1 if not set.
+ *
+ * @see android.database.sqlite.SQLiteDatabase.OpenParams.Builder#setReadConnectionPoolSize(int,int)
+ * @return Value is -1 or greater
+ * @apiSince R
+ */
+
+public int getBackgroundReadConnectionLimit() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the maximum number of compiled statements each connection caches, or -1 if
+ * not set.
+ *
+ * @see android.database.sqlite.SQLiteDatabase.OpenParams.Builder#setStatementCacheSize(int)
+ * @return Value is -1 or greater
+ * @apiSince R
+ */
+
+public int getStatementCacheSize() { throw new RuntimeException("Stub!"); }
+
 /**
  * Returns <a href="https://sqlite.org/pragma.html#pragma_journal_mode">journal mode</a>.
  * This journal mode will only be used if {@link android.database.sqlite.SQLiteDatabase#ENABLE_WRITE_AHEAD_LOGGING SQLiteDatabase#ENABLE_WRITE_AHEAD_LOGGING}
@@ -1758,6 +2008,59 @@ public android.database.sqlite.SQLiteDatabase.OpenParams.Builder setJournalMode(
 @androidx.annotation.NonNull
 public android.database.sqlite.SQLiteDatabase.OpenParams.Builder setSynchronousMode(@androidx.annotation.NonNull java.lang.String syncMode) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Sets the number of read connections kept in the pool of a database that uses
+ * write-ahead logging, and how many of them background queries may hold at once.
+ *
+ * <p>If this method isn't called, the pool size is chosen by the system. The
+ * connections not available to background queries are reserved for
+ * {@link android.database.sqlite.SQLiteDatabase#QUERY_PRIORITY_INTERACTIVE SQLiteDatabase#QUERY_PRIORITY_INTERACTIVE}
+ * queries, so that interactive reads never wait behind long background reads.
+ * Synchronous queries such as {@link android.database.sqlite.SQLiteDatabase#rawQuery(java.lang.String,java.lang.String[]) SQLiteDatabase#rawQuery(String, String[])}
+ * may use any read connection. The settings have no effect unless write-ahead logging
+ * is enabled.
+ *
+ * @param poolSize the maximum number of read connections.
+ * Value is 1 or greater
+ * @param backgroundLimit the maximum number of read connections used by background
+ * queries at the same time. Value is between 1 and {@code poolSize} inclusive
+ * @return same builder instance for chaining multiple calls into a single statement
+ * This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.database.sqlite.SQLiteDatabase.OpenParams.Builder setReadConnectionPoolSize(int poolSize, int backgroundLimit) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the maximum number of compiled statements each connection keeps in its
+ * least-recently-used prepared-statement cache.
+ *
+ * <p>The default of 10 is too small for data access layers that run a few hundred
+ * distinct SQL strings at high rates; every miss recompiles the statement. Use
+ * {@link android.database.sqlite.SQLiteDatabase#getStatementCacheStats() SQLiteDatabase#getStatementCacheStats()} to see whether the cache is large
+ * enough. Each compiled statement uses roughly 1K to 6K of native memory, and the
+ * limit applies to every connection in the pool.
+ *
+ * <p>Unlike {@link android.database.sqlite.SQLiteDatabase#setMaxSqlCacheSize(int) SQLiteDatabase#setMaxSqlCacheSize(int)},
+ * this is not limited to {@link android.database.sqlite.SQLiteDatabase#MAX_SQL_CACHE_SIZE SQLiteDatabase#MAX_SQL_CACHE_SIZE},
+ * so a cache can hold every statement of a large data access layer. The size set here
+ * is the initial size of the opened database. A later call to
+ * {@link android.database.sqlite.SQLiteDatabase#setMaxSqlCacheSize(int) SQLiteDatabase#setMaxSqlCacheSize(int)}
+ * can still only increase it, so it throws {@link java.lang.IllegalStateException} for
+ * any value below this size, and cannot go beyond
+ * {@link android.database.sqlite.SQLiteDatabase#MAX_SQL_CACHE_SIZE SQLiteDatabase#MAX_SQL_CACHE_SIZE}.
+ *
+ * @param cacheSize the number of statements to cache per connection, or 0 to disable
+ * caching. Value is between 0 and {@link android.database.sqlite.SQLiteDatabase#MAX_STATEMENT_CACHE_SIZE} inclusive
+ * @return same builder instance for chaining multiple calls into a single statement
+ * This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.database.sqlite.SQLiteDatabase.OpenParams.Builder setStatementCacheSize(int cacheSize) { throw new RuntimeException("Stub!"); }
+
 /**
  * Creates an instance of {@link android.database.sqlite.SQLiteDatabase.OpenParams OpenParams} with the options that were previously set
  * on this builder
@@ -1772,5 +2075,25 @@ public android.database.sqlite.SQLiteDatabase.OpenParams build() { throw new Run
 
 }
 
+/**
+ * Receives reports about slow statements.
+ *
+ * @see android.database.sqlite.SQLiteDatabase#setSlowQueryListener(java.util.concurrent.Executor,android.database.sqlite.SQLiteDatabase.SlowQueryListener,long,boolean)
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static interface SlowQueryListener {
+
+/**
+ * Called after a statement took longer than the listener's threshold.
+ *
+ * @param report This value will never be {@code null}.
+ * @apiSince R
+ */
+
+public void onSlowQuery(@androidx.annotation.NonNull android.database.sqlite.SQLiteQueryReport report);
+}
+
 }
 
@@ -211,6 +211,34 @@ public void setStrict(boolean strict) { throw new RuntimeException("Stub!"); }
 
 public boolean isStrict() { throw new RuntimeException("Stub!"); }
 
+/**
+ * Builds the query that
+ * {@link #query(android.database.sqlite.SQLiteDatabase,java.lang.String[],java.lang.String,java.lang.String[],java.lang.String,java.lang.String,java.lang.String,java.lang.String)}
+ * would run with the same arguments, asks SQLite for its plan with
+ * {@code EXPLAIN QUERY PLAN}, and returns the tables the plan would read without an
+ * index.
+ * <p>
+ * The query itself is not executed. Use this in tests or debug builds to catch queries
+ * that turn into full table scans as data grows, for example:
+ * <pre>   {@code
+ *   assertEquals(Collections.emptyList(),
+ *           builder.findFullTableScans(db, projection, selection, args, null, null, null, null));
+ * }</pre>
+ * Scans of tables that are small by design are legitimate; filter them out as needed.
+ * </p>
+ *
+ * @param db the database to plan the query on.
+ * This value must never be {@code null}.
+ * @return The names of the tables that would be fully scanned, in plan order, or an
+ * empty list if every table is accessed through an index.
+ * This value will never be {@code null}.
+ * @see android.database.sqlite.SQLiteQueryReport#isFullTableScan()
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public java.util.List<java.lang.String> findFullTableScans(@androidx.annotation.NonNull android.database.sqlite.SQLiteDatabase db, @androidx.annotation.Nullable java.lang.String[] projectionIn, @androidx.annotation.Nullable java.lang.String selection, @androidx.annotation.Nullable java.lang.String[] selectionArgs, @androidx.annotation.Nullable java.lang.String groupBy, @androidx.annotation.Nullable java.lang.String having, @androidx.annotation.Nullable java.lang.String sortOrder, @androidx.annotation.Nullable java.lang.String limit) { throw new RuntimeException("Stub!"); }
+
 /**
  * Build an SQL query string from the given clauses.
  *
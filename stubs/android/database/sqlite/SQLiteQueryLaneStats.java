@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.database.sqlite;
+
+
+/**
+ * A snapshot of the counters of one query lane of a
+ * {@link android.database.sqlite.SQLiteDatabase SQLiteDatabase}.
+ *
+ * <p>Queue wait is the time from
+ * {@link android.database.sqlite.SQLiteDatabase#rawQueryAsync(java.lang.String,java.lang.String[],int,android.os.CancellationSignal) SQLiteDatabase#rawQueryAsync}
+ * until the query was given a connection. Execution time is the time from then until
+ * the first window of the cursor was filled. A lane whose queue wait grows while its
+ * execution time stays flat needs more connections.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class SQLiteQueryLaneStats {
+
+private SQLiteQueryLaneStats() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the lane these counters belong to.
+ *
+ * @return Value is {@link android.database.sqlite.SQLiteDatabase#QUERY_PRIORITY_INTERACTIVE}, or {@link android.database.sqlite.SQLiteDatabase#QUERY_PRIORITY_BACKGROUND}
+ * @apiSince R
+ */
+
+public int getPriority() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of queries waiting for a connection when the snapshot was taken.
+ * @apiSince R
+ */
+
+public int getQueuedCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of queries running when the snapshot was taken.
+ * @apiSince R
+ */
+
+public int getRunningCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of queries that completed, successfully or not.
+ * @apiSince R
+ */
+
+public long getCompletedCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of queries canceled before or during execution.
+ * @apiSince R
+ */
+
+public long getCanceledCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the total time completed queries spent waiting for a connection, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getTotalQueueWaitNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the longest time a completed query spent waiting for a connection, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getMaxQueueWaitNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the total execution time of completed queries, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getTotalExecutionNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the longest execution time of a completed query, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getMaxExecutionNanos() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+}
+
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.database.sqlite;
+
+
+/**
+ * Describes one execution of a statement that took longer than the threshold given to
+ * {@link android.database.sqlite.SQLiteDatabase#setSlowQueryListener(java.util.concurrent.Executor,android.database.sqlite.SQLiteDatabase.SlowQueryListener,long,boolean) SQLiteDatabase#setSlowQueryListener}.
+ *
+ * <p>Row counts come from SQLite's per-statement counters and are collected for every
+ * statement at negligible cost. The query plan is only available if plan capture was
+ * requested: it is obtained by running {@code EXPLAIN QUERY PLAN} on the same SQL after
+ * the slow statement finished, so it costs one extra compilation per slow statement and
+ * nothing for statements under the threshold.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class SQLiteQueryReport {
+
+private SQLiteQueryReport() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the SQL text of the statement, with {@code ?} placeholders. Bound values are
+ * never included.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public java.lang.String getSql() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of values bound to the statement.
+ * @apiSince R
+ */
+
+public int getBindArgCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the wall-clock time the statement took, from the start of execution until
+ * its last row was stepped or its cursor window was filled, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getDurationNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of rows the statement returned, or for a cursor query, the
+ * number of rows copied into the window that was being filled.
+ * @apiSince R
+ */
+
+public long getRowsReturned() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of rows SQLite visited while stepping through tables without an
+ * index, as counted by {@code SQLITE_STMTSTATUS_FULLSCAN_STEP}. A large value relative
+ * to {@link #getRowsReturned()} usually means a missing index.
+ * @apiSince R
+ */
+
+public long getRowsScanned() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of sort operations performed without an index, as counted by
+ * {@code SQLITE_STMTSTATUS_SORT}.
+ * @apiSince R
+ */
+
+public int getSortCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the {@code EXPLAIN QUERY PLAN} output for the statement, one line per plan
+ * step, or null if plan capture was not requested or the statement is not a query.
+ *
+ * @return This value may be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public java.util.List<java.lang.String> getQueryPlan() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether any step of the query plan reads a table without using an index.
+ * Always false if {@link #getQueryPlan()} returns null.
+ * @apiSince R
+ */
+
+public boolean isFullTableScan() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the name of the thread that executed the statement.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public java.lang.String getThreadName() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+}
+
@@ -105,8 +105,170 @@ public java.lang.String simpleQueryForString() { throw new RuntimeException("Stu
 
 public android.os.ParcelFileDescriptor simpleQueryForBlobFileDescriptor() { throw new RuntimeException("Stub!"); }
 
+/**
+ * Executes this INSERT statement once per row supplied by {@code binder}, reusing the
+ * compiled statement for every row.
+ * <p>
+ * Before each row the bindings are cleared and {@link android.database.sqlite.SQLiteStatement.RowBinder#bindRow RowBinder#bindRow}
+ * is called to bind that row's values through the primitive {@code bind} methods, so no
+ * {@link android.content.ContentValues ContentValues} or boxed values are created. The rows
+ * are executed in the caller's transaction, if any; to commit in chunks, use
+ * {@link android.database.sqlite.SQLiteDatabase#bulkInsert(java.lang.String,java.lang.String[],int,android.database.sqlite.SQLiteStatement.RowBinder,int) SQLiteDatabase#bulkInsert}.
+ * </p>
+ *
+ * @param binder Supplies the rows to insert.
+ * This value must never be {@code null}.
+ * @return the number of rows inserted.
+ * @throws android.database.SQLException If a row could not be inserted. Rows inserted
+ *         before the failure are not rolled back unless the enclosing transaction is.
+ * @apiSince R
+ */
+
+public long executeInsertBatch(@androidx.annotation.NonNull android.database.sqlite.SQLiteStatement.RowBinder binder) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Executes this INSERT statement once per row of {@code batch}, binding parameter
+ * {@code i + 1} of each row from column {@code i} of the batch.
+ *
+ * @param batch The rows to insert, stored column by column.
+ * This value must never be {@code null}.
+ * @return the number of rows inserted.
+ * @throws android.database.SQLException If a row could not be inserted.
+ * @throws java.lang.IllegalArgumentException if the batch does not have one column per
+ *         parameter of this statement.
+ * @see #executeInsertBatch(android.database.sqlite.SQLiteStatement.RowBinder)
+ * @apiSince R
+ */
+
+public long executeInsertBatch(@androidx.annotation.NonNull android.database.sqlite.SQLiteStatement.ColumnBatch batch) { throw new RuntimeException("Stub!"); }
+
 /** @apiSince 1 */
 
 public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+/**
+ * Rows to bind to a statement, stored column by column in primitive arrays.
+ * <p>
+ * Each column is set once with an array holding one value per row. A batch can be
+ * refilled and reused for the next chunk of rows by calling the setters again; the
+ * arrays are referenced, not copied, so they must not be modified while the batch is
+ * being executed.
+ * </p>
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static final class ColumnBatch {
+
+/**
+ * Creates a batch of {@code columnCount} columns holding {@code rowCount} rows.
+ *
+ * @param columnCount Value is 1 or greater
+ * @param rowCount Value is 0 or greater
+ * @apiSince R
+ */
+
+public ColumnBatch(int columnCount, int rowCount) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of rows in this batch.
+ * @apiSince R
+ */
+
+public int getRowCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Changes the number of rows in this batch. Arrays set afterwards must hold at least
+ * this many values; only the first {@code rowCount} values of each column are bound.
+ *
+ * @param rowCount Value is 0 or greater
+ * @apiSince R
+ */
+
+public void setRowCount(int rowCount) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of columns in this batch.
+ * @apiSince R
+ */
+
+public int getColumnCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets an integer column.
+ *
+ * @param column The zero-based column index.
+ * @param values One value per row. This value must never be {@code null}.
+ * @param nulls If non-null, rows for which this array is {@code true} are bound as NULL.
+ * This value may be {@code null}.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.database.sqlite.SQLiteStatement.ColumnBatch setLongs(int column, @androidx.annotation.NonNull long[] values, @androidx.annotation.Nullable boolean[] nulls) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets a floating-point column.
+ *
+ * @param column The zero-based column index.
+ * @param values One value per row. This value must never be {@code null}.
+ * @param nulls If non-null, rows for which this array is {@code true} are bound as NULL.
+ * This value may be {@code null}.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.database.sqlite.SQLiteStatement.ColumnBatch setDoubles(int column, @androidx.annotation.NonNull double[] values, @androidx.annotation.Nullable boolean[] nulls) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets a text column. Null elements are bound as NULL.
+ *
+ * @param column The zero-based column index.
+ * @param values One value per row. This value must never be {@code null}.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.database.sqlite.SQLiteStatement.ColumnBatch setStrings(int column, @androidx.annotation.NonNull java.lang.String[] values) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets a blob column. Null elements are bound as NULL.
+ *
+ * @param column The zero-based column index.
+ * @param values One value per row. This value must never be {@code null}.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.database.sqlite.SQLiteStatement.ColumnBatch setBlobs(int column, @androidx.annotation.NonNull byte[][] values) { throw new RuntimeException("Stub!"); }
+}
+
+/**
+ * Supplies rows to {@link android.database.sqlite.SQLiteStatement#executeInsertBatch(android.database.sqlite.SQLiteStatement.RowBinder) SQLiteStatement#executeInsertBatch(RowBinder)}
+ * one at a time, binding them directly to the statement.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static interface RowBinder {
+
+/**
+ * Binds the values of the next row to {@code statement}, whose bindings have been
+ * cleared, using {@link android.database.sqlite.SQLiteProgram#bindLong SQLiteProgram#bindLong}
+ * and the other {@code bind} methods.
+ *
+ * @param statement The statement to bind the row to. Implementations must not execute
+ *        or close it. This value will never be {@code null}.
+ * @param row The zero-based index of the row in this batch.
+ * @return true if a row was bound, false if there are no more rows.
+ * @apiSince R
+ */
+
+public boolean bindRow(@androidx.annotation.NonNull android.database.sqlite.SQLiteStatement statement, long row);
+}
+
 }
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.database.sqlite;
+
+
+/**
+ * A snapshot of the prepared-statement cache counters of a
+ * {@link android.database.sqlite.SQLiteDatabase SQLiteDatabase}, summed over all of its connections.
+ *
+ * <p>A lookup is counted each time a statement is prepared on a connection, whether
+ * through {@link android.database.sqlite.SQLiteDatabase#compileStatement(java.lang.String) SQLiteDatabase#compileStatement(String)},
+ * a query, or one of the convenience methods. A low hit rate with a high eviction count
+ * means the working set of SQL strings does not fit in the cache; see
+ * {@link android.database.sqlite.SQLiteDatabase.OpenParams.Builder#setStatementCacheSize(int) OpenParams.Builder#setStatementCacheSize(int)}.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class SQLiteStatementCacheStats {
+
+private SQLiteStatementCacheStats() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of times a statement was found in a connection's cache and
+ * reused without compiling.
+ * @apiSince R
+ */
+
+public long getHitCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of times a statement was not in the cache and had to be compiled.
+ * @apiSince R
+ */
+
+public long getMissCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns {@link #getHitCount()} divided by the number of lookups, or 0 if there were
+ * no lookups.
+ * @apiSince R
+ */
+
+public double getHitRate() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of compiled statements evicted from a full cache to make room
+ * for another one.
+ * @apiSince R
+ */
+
+public long getEvictionCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of statements that could not be cached because they were in use
+ * when the same SQL was prepared again, and were compiled a second time.
+ * @apiSince R
+ */
+
+public long getUncacheableCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the total time spent compiling statements, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getTotalCompileTimeNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the longest time spent compiling a single statement, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getMaxCompileTimeNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of statements currently cached, summed over the open connections.
+ * @apiSince R
+ */
+
+public int getCachedStatementCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the maximum number of statements each connection caches.
+ * @apiSince R
+ */
+
+public int getMaxCacheSize() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of connections currently open.
+ * @apiSince R
+ */
+
+public int getConnectionCount() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+}
+
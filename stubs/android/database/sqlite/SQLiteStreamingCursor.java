@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.database.sqlite;
+
+
+/**
+ * A forward-only {@link android.database.Cursor Cursor} that steps a compiled statement
+ * directly instead of copying its results into a {@link android.database.CursorWindow CursorWindow}.
+ *
+ * <p>{@link android.database.sqlite.SQLiteCursor SQLiteCursor} counts the whole result set before
+ * returning its first row and buffers rows in a fixed-size window that it refills as the
+ * cursor moves. For large sequential scans, such as exports and sync jobs, this
+ * cursor instead reads one row at a time from SQLite: the first row is available as
+ * soon as SQLite produces it, and memory use is bounded by the size of the current row
+ * regardless of how many rows the query returns.
+ *
+ * <p>The cursor holds at most two rows: the current row and, only after a call that
+ * must know whether another row follows ({@link #getCount()} before the first move,
+ * or {@link #isLast()}), the next row, read one step ahead. Apart from that single
+ * row of look-ahead, rows are never buffered, and the trade-offs follow from that:
+ * <ul>
+ * <li>The cursor can only move forward one row at a time. {@link #moveToNext()} is
+ * supported, and so is {@link #moveToFirst()} until the cursor has moved past the first
+ * row, including after the look-ahead of {@link #getCount()} or {@link #isLast()}, so
+ * the usual {@code if (c.getCount() > 0) c.moveToFirst()} works. Every other movement
+ * throws {@link java.lang.UnsupportedOperationException UnsupportedOperationException}.
+ * <li>{@link #getCount()} does not run a count pass. It returns the number of rows read
+ * so far, which equals the size of the result set only once {@link #isExhausted()}
+ * returns true. It never returns a negative value, and it returns 0 only if the result
+ * set is empty, so emptiness checks such as {@code getCount() == 0} keep working.
+ * Code that needs the total up front, such as {@link android.widget.CursorAdapter CursorAdapter},
+ * must not be given this cursor.
+ * <li>The cursor holds one of the database's connections until it is closed, and on a
+ * database without write-ahead logging it blocks writers for as long. Close it as soon
+ * as the scan completes, ideally with try-with-resources.
+ * <li>It is not a {@link android.database.CrossProcessCursor CrossProcessCursor} and cannot be
+ * sent to another process.
+ * </ul>
+ *
+ * <p>Obtain instances with
+ * {@link android.database.sqlite.SQLiteDatabase#rawQueryStreaming(java.lang.String,java.lang.String[],android.os.CancellationSignal) SQLiteDatabase#rawQueryStreaming(String, String[], CancellationSignal)} or
+ * {@link android.database.sqlite.SQLiteDatabase#queryStreaming(boolean,java.lang.String,java.lang.String[],java.lang.String,java.lang.String[],java.lang.String,java.lang.String,java.lang.String,java.lang.String,android.os.CancellationSignal) SQLiteDatabase#queryStreaming}.
+ * Like other cursors, SQLiteStreamingCursor is not internally synchronized.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class SQLiteStreamingCursor implements android.database.Cursor {
+
+private SQLiteStreamingCursor() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of rows read from the statement so far, including a row read
+ * ahead by {@link #isLast()}. Once {@link #isExhausted()} returns true, this is the
+ * number of rows in the result set.
+ * <p>
+ * If no row has been read yet, this method reads the first row ahead, so that it
+ * returns 0 only for an empty result set and 1 otherwise. It never steps further.
+ * </p>
+ * @apiSince R
+ */
+
+public int getCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether the statement has produced its last row. Once this returns true,
+ * {@link #getCount()} returns the number of rows in the result set.
+ * @apiSince R
+ */
+
+public boolean isExhausted() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public int getPosition() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Moves forward by {@code offset}, which must be 1.
+ *
+ * @throws java.lang.UnsupportedOperationException for any other offset.
+ * @apiSince R
+ */
+
+public boolean move(int offset) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Moves to {@code position}, which must be exactly one past the current position.
+ *
+ * @throws java.lang.UnsupportedOperationException for any other position.
+ * @apiSince R
+ */
+
+public boolean moveToPosition(int position) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Moves to the first row. Supported until the cursor has moved past the first row:
+ * before the first move, this moves to the first row, using the row read ahead by
+ * {@link #getCount()} or {@link #isLast()} if there is one; on the first row, it
+ * leaves the cursor there and returns true.
+ *
+ * @return false if the result set is empty, in which case the cursor is after the last
+ * row.
+ * @throws java.lang.UnsupportedOperationException if the cursor is past the first row,
+ * since the statement cannot step backwards.
+ * @apiSince R
+ */
+
+public boolean moveToFirst() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Always throws: reaching the last row would require reading the whole result set.
+ *
+ * @throws java.lang.UnsupportedOperationException always.
+ * @apiSince R
+ */
+
+public boolean moveToLast() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Steps the statement to the next row.
+ *
+ * @return false if there are no more rows.
+ * @throws android.os.OperationCanceledException if the query's cancellation signal
+ * was canceled.
+ * @apiSince R
+ */
+
+public boolean moveToNext() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Always throws: the statement cannot step backwards.
+ *
+ * @throws java.lang.UnsupportedOperationException always.
+ * @apiSince R
+ */
+
+public boolean moveToPrevious() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public boolean isFirst() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether the cursor is on the last row. Answering this requires stepping
+ * the statement one row ahead; that row is the single row of look-ahead described
+ * in the class documentation, and the current row's values remain accessible.
+ * @apiSince R
+ */
+
+public boolean isLast() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public boolean isBeforeFirst() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public boolean isAfterLast() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public int getColumnIndex(java.lang.String columnName) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public int getColumnIndexOrThrow(java.lang.String columnName) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String getColumnName(int columnIndex) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String[] getColumnNames() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public int getColumnCount() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public byte[] getBlob(int columnIndex) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String getString(int columnIndex) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Copies the text of the requested column into {@code buffer} without creating a
+ * {@link java.lang.String String}.
+ * @apiSince R
+ */
+
+public void copyStringToBuffer(int columnIndex, android.database.CharArrayBuffer buffer) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public short getShort(int columnIndex) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public int getInt(int columnIndex) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public long getLong(int columnIndex) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public float getFloat(int columnIndex) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public double getDouble(int columnIndex) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public int getType(int columnIndex) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public boolean isNull(int columnIndex) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Equivalent to {@link #close()}, since a streaming cursor cannot be requeried.
+ * @apiSince R
+ */
+
+public void deactivate() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Always returns false: the statement cannot be rewound. Run the query again instead.
+ * @apiSince R
+ */
+
+public boolean requery() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Finalizes the statement and returns its connection to the pool.
+ * @apiSince R
+ */
+
+public void close() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public boolean isClosed() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public void registerContentObserver(android.database.ContentObserver observer) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public void unregisterContentObserver(android.database.ContentObserver observer) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public void registerDataSetObserver(android.database.DataSetObserver observer) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public void unregisterDataSetObserver(android.database.DataSetObserver observer) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public void setNotificationUri(android.content.ContentResolver cr, android.net.Uri uri) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public android.net.Uri getNotificationUri() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public boolean getWantsAllOnMoveCalls() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public void setExtras(android.os.Bundle extras) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public android.os.Bundle getExtras() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public android.os.Bundle respond(android.os.Bundle extras) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+protected void finalize() { throw new RuntimeException("Stub!"); }
+}
+
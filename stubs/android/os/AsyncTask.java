@@ -492,6 +492,10 @@ public final android.os.AsyncTask<Params,Progress,Result> execute(Params... para
  * executed in serial; to guarantee such work is serialized regardless of
  * platform version you can use this function with {@link #SERIAL_EXECUTOR}.
  *
+ * <p>To run tasks ahead of or behind other background work, pass one of the lanes of
+ * an {@link android.os.PriorityExecutor PriorityExecutor}, obtained with
+ * {@link android.os.PriorityExecutor#forPriority(int) PriorityExecutor#forPriority(int)}.
+ *
  * <p>This method must be invoked on the UI thread.
  *
  * <br>
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.os;
+
+
+/**
+ * Reads and writes {@link android.os.Bundle Bundle}s and {@link android.os.PersistableBundle PersistableBundle}s
+ * in a compact binary format that can be read lazily, one key at a time.
+ *
+ * <p>A {@link android.os.PersistableBundle PersistableBundle} is normally persisted as XML and a
+ * {@link android.os.Bundle Bundle} as a {@link android.os.Parcel Parcel}; reading either
+ * decodes every value, including nested bundles and arrays the reader never looks at.
+ * The binary format begins with a header and a sorted key index. Each index entry
+ * records the key, the value's type and the offset and length of the encoded value, so
+ * a bundle read from this format decodes only the index up front and decodes each
+ * value the first time it is accessed. Nested bundles are encoded the same way and are
+ * themselves read lazily. Primitive values and arrays are stored in little-endian
+ * order and aligned to their size, so they can be read directly from a
+ * memory-mapped file.
+ *
+ * <p>Every value type that a {@link android.os.PersistableBundle PersistableBundle} supports
+ * has a native encoding. Values of a {@link android.os.Bundle Bundle} that have no native
+ * encoding, such as {@link android.os.Parcelable Parcelable}s, are stored as the bytes
+ * {@link android.os.Parcel Parcel} would write for them and unparcelled on first access,
+ * so the format has the same restrictions as parcelling: it must not be used for
+ * long-term storage of values whose {@link android.os.Parcelable Parcelable} layout may change.
+ * {@link android.os.IBinder IBinder} values and file descriptors cannot be written.
+ *
+ * <p>A bundle read from this format behaves exactly like one read from XML or from a
+ * {@link android.os.Parcel Parcel}, and writing it back to either produces the same output
+ * as writing the original bundle. The buffer a lazily read bundle was created from must
+ * not be modified while the bundle is in use; modifying the bundle itself is fine, as
+ * changes are kept in memory.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class BinaryBundleFormat {
+
+private BinaryBundleFormat() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Writes {@code bundle} to {@code out} in the binary format.
+ *
+ * @param bundle The bundle to write, a {@link android.os.Bundle Bundle} or a
+ * {@link android.os.PersistableBundle PersistableBundle}.
+ * This value must never be {@code null}.
+ * @param out This value must never be {@code null}.
+ * @throws java.io.IOException if writing to {@code out} failed.
+ * @throws java.lang.IllegalArgumentException if the bundle contains a value that cannot be
+ * written, such as an {@link android.os.IBinder IBinder}.
+ * @apiSince R
+ */
+
+public static void write(@androidx.annotation.NonNull android.os.BaseBundle bundle, @androidx.annotation.NonNull java.io.OutputStream out) throws java.io.IOException { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a {@link android.os.PersistableBundle PersistableBundle} backed by the binary data
+ * between {@code buffer}'s position and limit. Only the key index is decoded by this
+ * call; values are decoded on first access.
+ *
+ * @param buffer This value must never be {@code null}.
+ * @return This value will never be {@code null}.
+ * @throws java.lang.IllegalArgumentException if the buffer does not hold a persistable
+ * bundle in the binary format, or the format version is not supported.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public static android.os.PersistableBundle readPersistableBundle(@androidx.annotation.NonNull java.nio.ByteBuffer buffer) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a {@link android.os.Bundle Bundle} backed by the binary data between
+ * {@code buffer}'s position and limit. Only the key index is decoded by this call;
+ * values are decoded on first access.
+ *
+ * @param buffer This value must never be {@code null}.
+ * @param classLoader The class loader used to unparcel {@link android.os.Parcelable Parcelable}
+ * values, or null to use the default.
+ * This value may be {@code null}.
+ * @return This value will never be {@code null}.
+ * @throws java.lang.IllegalArgumentException if the buffer does not hold a bundle in the
+ * binary format, or the format version is not supported.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public static android.os.Bundle readBundle(@androidx.annotation.NonNull java.nio.ByteBuffer buffer, @androidx.annotation.Nullable java.lang.ClassLoader classLoader) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Maps {@code file} read-only and returns a {@link android.os.PersistableBundle PersistableBundle}
+ * backed by the mapping. The mapping is released when the bundle is garbage collected.
+ * <p>
+ * Replace the file atomically, for example with {@link android.util.AtomicFile AtomicFile},
+ * rather than rewriting it in place while bundles mapped from it may be in use.
+ * </p>
+ *
+ * @param file This value must never be {@code null}.
+ * @return This value will never be {@code null}.
+ * @throws java.io.IOException if the file could not be opened or mapped.
+ * @throws java.lang.IllegalArgumentException if the file does not hold a persistable bundle
+ * in the binary format.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public static android.os.PersistableBundle mapPersistableBundle(@androidx.annotation.NonNull java.io.File file) throws java.io.IOException { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether the data at {@code buffer}'s position starts with the binary bundle
+ * header. Does not change the buffer's position.
+ *
+ * @param buffer This value must never be {@code null}.
+ * @apiSince R
+ */
+
+public static boolean isBinaryBundle(@androidx.annotation.NonNull java.nio.ByteBuffer buffer) { throw new RuntimeException("Stub!"); }
+
+/**
+ * The version of the binary format written by {@link #write}. Readers accept this and
+ * all earlier versions.
+ * @apiSince R
+ */
+
+public static final int FORMAT_VERSION = 1; // 0x1
+}
+
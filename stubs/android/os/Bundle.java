@@ -154,6 +154,84 @@ public void putAll(android.os.Bundle bundle) { throw new RuntimeException("Stub!
 
 public boolean hasFileDescriptors() { throw new RuntimeException("Stub!"); }
 
+/**
+ * Enables or disables lazy unparcelling for Bundles read from a {@link android.os.Parcel Parcel}
+ * by this process from now on, including Intent extras and saved instance state.
+ * <p>
+ * A Bundle read from a Parcel keeps the parcelled bytes and decodes nothing until it is
+ * first accessed. Normally that first access decodes every entry, including large
+ * nested {@link android.os.Parcelable Parcelable}s the receiver never reads. With lazy
+ * unparcelling, the first access only walks the entries to record their keys and
+ * where each value starts; each value is then decoded the first time it is read.
+ * {@link #size()}, {@link #keySet()} and {@link #containsKey(java.lang.String)} decode
+ * no values at all. Operations that need every value, such as {@link #deepCopy()},
+ * {@link #putAll(android.os.Bundle)} into another Bundle and {@link #toString()}, still
+ * decode everything.
+ * </p><p>
+ * Skipping a value without decoding it requires its length. Starting with this
+ * release, Bundles are written with a format version in their header, and every value
+ * whose size is not implied by its type, such as a {@link android.os.Parcelable Parcelable},
+ * {@link java.io.Serializable Serializable}, nested Bundle, {@link java.util.List List} or
+ * {@link java.util.Map Map}, is preceded by its length in bytes. Bundles written by an
+ * earlier platform version carry no lengths; they are decoded in full on first access,
+ * as if lazy unparcelling were disabled. This setting only affects how Bundles are
+ * read; every Bundle is written with lengths.
+ * </p><p>
+ * Until its last value has been decoded, a lazily unparcelled Bundle keeps a copy of
+ * the whole parcelled data alive, including any {@link android.os.IBinder IBinder}s and
+ * file descriptors it contains, even if the values holding them are never read or
+ * have been removed. To release the data early, copy the values you need out of the
+ * Bundle and drop the Bundle, or decode the remaining values, for example with
+ * {@link #deepCopy()}.
+ * </p><p>
+ * Failures to unparcel a value, such as a {@link android.os.BadParcelableException BadParcelableException}
+ * or a missing class, are no longer thrown by the first access to the Bundle but by the
+ * {@code get} call that reads the value, and by any later operation that decodes all
+ * values. Only that value is affected; the other values remain readable.
+ * Lazy unparcelling is disabled by default.
+ * </p>
+ *
+ * @param enabled Whether Bundles read from now on unparcel lazily.
+ * @see #getDecodedByteCount()
+ * @apiSince R
+ */
+
+public static void setLazyUnparcellingEnabled(boolean enabled) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether Bundles read from a {@link android.os.Parcel Parcel} by this process
+ * unparcel lazily.
+ *
+ * @see #setLazyUnparcellingEnabled(boolean)
+ * @apiSince R
+ */
+
+public static boolean isLazyUnparcellingEnabled() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the size in bytes of the parcelled data this Bundle was read from, or 0 if it
+ * was not read from a {@link android.os.Parcel Parcel}.
+ *
+ * @see #getDecodedByteCount()
+ * @apiSince R
+ */
+
+public long getReceivedByteCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns how many bytes of the parcelled data this Bundle was read from have been
+ * decoded so far, including the key table. Comparing this with
+ * {@link #getReceivedByteCount()} shows how much of a received Bundle was never
+ * needed, for example to find callers that send large extras the receiver ignores.
+ * Equals {@link #getReceivedByteCount()} once the Bundle has been fully unparcelled,
+ * and is 0 if it was not read from a {@link android.os.Parcel Parcel}.
+ *
+ * @see #setLazyUnparcellingEnabled(boolean)
+ * @apiSince R
+ */
+
+public long getDecodedByteCount() { throw new RuntimeException("Stub!"); }
+
 /**
  * Inserts a byte value into the mapping of this Bundle, replacing
  * any existing value for the given key.
@@ -56,6 +56,14 @@ package android.os;
  * the same <em>post</em> or <em>sendMessage</em> methods as before, but from
  * your new thread.  The given Runnable or Message will then be scheduled
  * in the Handler's message queue and processed when appropriate.
+ *
+ * <p>Producers that report state faster than it can be consumed, such as
+ * sensor or network callbacks, can use {@link #sendMessageCoalesced} and
+ * {@link #postCoalesced} to update a pending message in place instead of
+ * enqueuing another one, so the queue holds at most one message per key.
+ * Consumers that do need every message can enable
+ * {@link #setBatchDispatchEnabled(boolean,int) batch dispatch} to receive the
+ * messages that are due in a single {@link #handleMessageBatch} call.
  * @apiSince 1
  */
 
@@ -152,6 +160,51 @@ public void handleMessage(@androidx.annotation.NonNull android.os.Message msg) {
 
 public void dispatchMessage(@androidx.annotation.NonNull android.os.Message msg) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Handles messages dispatched together while batch dispatch is enabled. The default
+ * implementation calls {@link #dispatchMessage} for each message in order, so
+ * subclasses that do not override this method behave as if batch dispatch were off.
+ * <p>
+ * The list and the messages in it are only valid for the duration of this call; the
+ * messages are recycled when it returns. Copy any values that are needed later.
+ * </p>
+ *
+ * @param messages The messages, in the order they were due.
+ * This value must never be {@code null}.
+ * @see #setBatchDispatchEnabled(boolean,int)
+ * @apiSince R
+ */
+
+public void handleMessageBatch(@androidx.annotation.NonNull java.util.List<android.os.Message> messages) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Enables or disables batch dispatch for this handler.
+ * <p>
+ * When batch dispatch is enabled and the looper dispatches a message to this handler,
+ * it also removes the messages for this handler that directly follow it in the queue
+ * and are already due, up to {@code maxBatchSize} messages in total, and passes them
+ * to {@link #handleMessageBatch} in a single call. Messages posted with a
+ * {@link java.lang.Runnable Runnable}, and messages behind a message for another target,
+ * end the batch and are dispatched as usual, so ordering with respect to other
+ * handlers on the same looper is preserved.
+ * </p>
+ *
+ * @param enabled Whether to dispatch messages in batches.
+ * @param maxBatchSize The largest number of messages passed in one call.
+ * Value is 1 or greater
+ * @throws java.lang.IllegalArgumentException if {@code maxBatchSize} is less than 1.
+ * @apiSince R
+ */
+
+public final void setBatchDispatchEnabled(boolean enabled, int maxBatchSize) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether batch dispatch is enabled for this handler.
+ * @apiSince R
+ */
+
+public final boolean isBatchDispatchEnabled() { throw new RuntimeException("Stub!"); }
+
 /**
  * Create a new Handler whose posted messages and runnables are not subject to
  * synchronization barriers such as display vsync.
@@ -554,6 +607,54 @@ public boolean sendMessageAtTime(@androidx.annotation.NonNull android.os.Message
 
 public final boolean sendMessageAtFrontOfQueue(@androidx.annotation.NonNull android.os.Message msg) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Enqueue a message to be delivered after (current time + delayMillis), unless a
+ * message sent to this handler with the same {@link android.os.Message#what Message#what}
+ * through this method is still pending. In that case the pending message's
+ * {@link android.os.Message#arg1 Message#arg1}, {@link android.os.Message#arg2 Message#arg2},
+ * {@link android.os.Message#obj Message#obj} and data are replaced by those of
+ * <var>msg</var>, it keeps its position and delivery time in the queue, and
+ * <var>msg</var> is recycled.
+ * <p>
+ * A producer that sends its latest state this way is delivered at most one message
+ * per {@code what} per dispatch, however often it sends. Messages with the same
+ * {@code what} sent through the other send methods are neither replaced nor counted
+ * as pending.
+ * </p>
+ *
+ * @param msg This value must never be {@code null}.
+ * @param delayMillis The delay before a newly enqueued message is delivered.
+ * @return Returns true if the message was placed in to the message queue or replaced
+ *         a pending one.  Returns false on failure, usually because the looper
+ *         processing the message queue is exiting.
+ * @apiSince R
+ */
+
+public final boolean sendMessageCoalesced(@androidx.annotation.NonNull android.os.Message msg, long delayMillis) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Causes the Runnable r to be run after (current time + delayMillis), unless a
+ * Runnable posted to this handler with the same <var>token</var> through this method
+ * is still pending. In that case the pending Runnable is replaced by <var>r</var> and
+ * keeps its position and delivery time in the queue.
+ * <p>
+ * The pending Runnable can be removed with
+ * {@link #removeCallbacksAndMessages(java.lang.Object)} using the same token.
+ * </p>
+ *
+ * @param r The Runnable that will be executed.
+ * This value must never be {@code null}.
+ * @param token The key of the pending Runnable to replace.
+ * This value must never be {@code null}.
+ * @param delayMillis The delay before a newly posted Runnable is run.
+ * @return Returns true if the Runnable was placed in to the message queue or replaced
+ *         a pending one.  Returns false on failure, usually because the looper
+ *         processing the message queue is exiting.
+ * @apiSince R
+ */
+
+public final boolean postCoalesced(@androidx.annotation.NonNull java.lang.Runnable r, @androidx.annotation.NonNull java.lang.Object token, long delayMillis) { throw new RuntimeException("Stub!"); }
+
 /**
  * Remove any pending posts of messages with code 'what' that are in the
  * message queue.
@@ -48,6 +48,12 @@ import android.util.Printer;
  *          Looper.loop();
  *      }
  *  }</pre>
+ *
+ * <p>To find out which messages keep a looper busy, use
+ * {@link #setDispatchStatsEnabled(boolean)} and {@link #getDispatchStats()} for aggregated
+ * statistics, {@link #setSlowDispatchListener} to be told about individual slow
+ * messages, or {@link #setDispatchObserver} to receive the timing of every message.
+ * Unlike {@link #setMessageLogging}, none of these format a string per message.
  * @apiSince 1
  */
 
@@ -137,6 +143,76 @@ public boolean isCurrentThread() { throw new RuntimeException("Stub!"); }
 
 public void setMessageLogging(@androidx.annotation.Nullable android.util.Printer printer) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Sets an observer that is called on this looper's thread after each message is
+ * dispatched, replacing any previous observer.
+ * <p>
+ * The observer is passed the message's target and timing as primitive values and
+ * classes, so the looper does not allocate to call it. It runs on the looper thread
+ * between messages and must return quickly; to analyze the timing elsewhere, copy it
+ * into a preallocated buffer.
+ * </p>
+ *
+ * @param observer The observer, or null to remove it.
+ * This value may be {@code null}.
+ * @apiSince R
+ */
+
+public void setDispatchObserver(@androidx.annotation.Nullable android.os.Looper.DispatchObserver observer) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets a listener to be told about messages whose delivery delay or dispatch duration
+ * exceeded a threshold, replacing any previous listener.
+ * <p>
+ * Every message's timing is compared with the thresholds on the looper thread; messages
+ * under both cost only the comparison. Messages over either are reported on
+ * {@code executor}, off the looper thread. See {@link android.os.MessageDispatchStats MessageDispatchStats}
+ * for the definitions of delivery delay and dispatch duration.
+ * </p>
+ *
+ * @param executor The executor the listener is called on.
+ * This value may be {@code null} only if {@code listener} is null.
+ * @param listener The listener, or null to stop reporting slow messages.
+ * This value may be {@code null}.
+ * @param deliveryThresholdMillis Messages delivered later than this are reported, or 0
+ * to not report late delivery.
+ * Value is 0 or greater
+ * @param dispatchThresholdMillis Messages whose dispatch took longer than this are
+ * reported, or 0 to not report slow dispatch.
+ * Value is 0 or greater
+ * @apiSince R
+ */
+
+public void setSlowDispatchListener(@androidx.annotation.Nullable java.util.concurrent.Executor executor, @androidx.annotation.Nullable android.os.Looper.SlowDispatchListener listener, long deliveryThresholdMillis, long dispatchThresholdMillis) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Enables or disables collection of the statistics returned by
+ * {@link #getDispatchStats()}. Collection is disabled by default. Disabling it keeps
+ * the statistics collected so far.
+ * @apiSince R
+ */
+
+public void setDispatchStatsEnabled(boolean enabled) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a snapshot of the dispatch statistics collected while
+ * {@link #setDispatchStatsEnabled(boolean)} was enabled. This method may be called
+ * from any thread.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.os.MessageDispatchStats getDispatchStats() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Discards the dispatch statistics collected so far.
+ * @apiSince R
+ */
+
+public void resetDispatchStats() { throw new RuntimeException("Stub!"); }
+
 /**
  * Quits the looper.
  * <p>
@@ -213,5 +289,63 @@ public void dump(@androidx.annotation.NonNull android.util.Printer pw, @androidx
 /** @apiSince 1 */
 
 public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+/**
+ * Receives the timing of every message dispatched by a looper.
+ *
+ * @see android.os.Looper#setDispatchObserver
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static interface DispatchObserver {
+
+/**
+ * Called on the looper thread after a message was dispatched, including when
+ * dispatching it threw an exception.
+ *
+ * @param handlerClass The class of the message's target handler.
+ * This value will never be {@code null}.
+ * @param callbackClass The class of the message's callback, or null if it has none.
+ * This value may be {@code null}.
+ * @param what The message's {@link android.os.Message#what Message#what}.
+ * @param deliveryDelayNanos The time from when the message was due until its dispatch
+ * started, in nanoseconds.
+ * @param dispatchNanos The time spent dispatching the message, in nanoseconds.
+ * @apiSince R
+ */
+
+public void onMessageDispatched(@androidx.annotation.NonNull java.lang.Class<? extends android.os.Handler> handlerClass, @androidx.annotation.Nullable java.lang.Class<?> callbackClass, int what, long deliveryDelayNanos, long dispatchNanos);
+}
+
+/**
+ * Receives the messages of a looper that exceeded a delivery delay or dispatch
+ * duration threshold.
+ *
+ * @see android.os.Looper#setSlowDispatchListener
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static interface SlowDispatchListener {
+
+/**
+ * Called after a message exceeded one of the listener's thresholds.
+ *
+ * @param looper The looper that dispatched the message.
+ * This value will never be {@code null}.
+ * @param handlerClass The class of the message's target handler.
+ * This value will never be {@code null}.
+ * @param callbackClass The class of the message's callback, or null if it has none.
+ * This value may be {@code null}.
+ * @param what The message's {@link android.os.Message#what Message#what}.
+ * @param deliveryDelayNanos The time from when the message was due until its dispatch
+ * started, in nanoseconds.
+ * @param dispatchNanos The time spent dispatching the message, in nanoseconds.
+ * @apiSince R
+ */
+
+public void onSlowDispatch(@androidx.annotation.NonNull android.os.Looper looper, @androidx.annotation.NonNull java.lang.Class<? extends android.os.Handler> handlerClass, @androidx.annotation.Nullable java.lang.Class<?> callbackClass, int what, long deliveryDelayNanos, long dispatchNanos);
+}
+
 }
 
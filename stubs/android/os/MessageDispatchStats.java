@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.os;
+
+
+/**
+ * An immutable snapshot of the message dispatch statistics of a {@link android.os.Looper Looper},
+ * as returned by {@link android.os.Looper#getDispatchStats() Looper#getDispatchStats()}.
+ *
+ * <p>For every message, the looper records two durations. The delivery delay is the
+ * time from when the message became due, that is when it was enqueued or, for a
+ * delayed message, the time it was scheduled for, until the looper started
+ * dispatching it. The dispatch duration is the time spent in
+ * {@link android.os.Handler#dispatchMessage(android.os.Message) Handler#dispatchMessage(Message)}.
+ * A long delivery delay means the thread was busy with other messages; a long dispatch
+ * duration points at the handler itself.
+ *
+ * <p>Both durations are recorded in histograms of {@link #getHistogramBucketCount()}
+ * buckets whose upper bounds double from 16 microseconds, and per target in
+ * {@link #getEntries()}. Recording only updates preallocated counters, so collecting
+ * statistics does not allocate on the looper thread once each target has been seen.
+ * Two snapshots of the same looper can be subtracted with {@link #minus} to obtain the
+ * statistics of an interval.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class MessageDispatchStats {
+
+private MessageDispatchStats() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of messages dispatched while statistics were enabled.
+ * @apiSince R
+ */
+
+public long getMessageCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the total time spent dispatching messages, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getTotalDispatchNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the longest dispatch duration of a single message, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getMaxDispatchNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the longest delivery delay of a single message, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getMaxDeliveryDelayNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of buckets in the delivery delay and dispatch duration histograms.
+ * @apiSince R
+ */
+
+public int getHistogramBucketCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the inclusive upper bound of {@code bucket} in nanoseconds. The last
+ * bucket's upper bound is {@link java.lang.Long#MAX_VALUE Long#MAX_VALUE}.
+ *
+ * @param bucket Value is between 0 and {@link #getHistogramBucketCount()} - 1 inclusive
+ * @apiSince R
+ */
+
+public long getHistogramUpperBoundNanos(int bucket) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of messages whose delivery delay was at most the upper bound of
+ * {@code bucket}, and more than the upper bound of the previous bucket.
+ *
+ * @param bucket Value is between 0 and {@link #getHistogramBucketCount()} - 1 inclusive
+ * @apiSince R
+ */
+
+public long getDeliveryDelayHistogramCount(int bucket) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of messages whose dispatch duration was at most the upper bound
+ * of {@code bucket}, and more than the upper bound of the previous bucket.
+ *
+ * @param bucket Value is between 0 and {@link #getHistogramBucketCount()} - 1 inclusive
+ * @apiSince R
+ */
+
+public long getDispatchHistogramCount(int bucket) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns an estimate of the given percentile of delivery delays in nanoseconds,
+ * interpolated within the histogram bucket that contains it, or 0 if no message was
+ * dispatched.
+ *
+ * @param percentile Value is between 0.0 and 100.0 inclusive
+ * @apiSince R
+ */
+
+public long getDeliveryDelayPercentileNanos(double percentile) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns an estimate of the given percentile of dispatch durations in nanoseconds,
+ * interpolated within the histogram bucket that contains it, or 0 if no message was
+ * dispatched.
+ *
+ * @param percentile Value is between 0.0 and 100.0 inclusive
+ * @apiSince R
+ */
+
+public long getDispatchPercentileNanos(double percentile) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the statistics of each target that dispatched at least one message, sorted
+ * by decreasing total dispatch time. A target is identified by the class of the
+ * {@link android.os.Handler Handler}, the class of the message's callback if it has one,
+ * and the message's {@link android.os.Message#what Message#what}.
+ * <p>
+ * At most 512 targets are tracked per looper; messages of further targets are counted
+ * in a single entry whose handler class name is {@code "OVERFLOW"}.
+ * </p>
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public java.util.List<android.os.MessageDispatchStats.Entry> getEntries() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the statistics accumulated since {@code other} was taken, by subtracting
+ * each of its counts from this snapshot's. Maximums cannot be subtracted and are
+ * those of this snapshot.
+ *
+ * @param other an earlier snapshot of the same looper.
+ * This value must never be {@code null}.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.os.MessageDispatchStats minus(@androidx.annotation.NonNull android.os.MessageDispatchStats other) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+/**
+ * The dispatch statistics of one target of a looper.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static final class Entry {
+
+private Entry() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the name of the class of the {@link android.os.Handler Handler} the messages
+ * were sent to.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public java.lang.String getHandlerClassName() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the name of the class of the messages' callback, or null for messages
+ * handled by {@link android.os.Handler#handleMessage(android.os.Message) Handler#handleMessage(Message)}.
+ *
+ * @return This value may be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public java.lang.String getCallbackClassName() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the {@link android.os.Message#what Message#what} of the messages. Always 0 for
+ * messages with a callback.
+ * @apiSince R
+ */
+
+public int getWhat() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of messages dispatched to this target.
+ * @apiSince R
+ */
+
+public long getMessageCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the total time spent dispatching this target's messages, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getTotalDispatchNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the longest dispatch duration of one of this target's messages, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getMaxDispatchNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the total delivery delay of this target's messages, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getTotalDeliveryDelayNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the longest delivery delay of one of this target's messages, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getMaxDeliveryDelayNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of this target's messages that exceeded a threshold of the
+ * looper's {@link android.os.Looper.SlowDispatchListener SlowDispatchListener}.
+ * @apiSince R
+ */
+
+public long getSlowMessageCount() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+}
+
+}
+
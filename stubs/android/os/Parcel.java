@@ -91,6 +91,14 @@ import java.util.ArrayList;
  * {@link #readSparseBooleanArray()}.
  * </ul>
  *
+ * <p>Large binary payloads can instead be written with
+ * {@link #writeByteBuffer(java.nio.ByteBuffer)} and read with {@link #readByteBuffer()}.
+ * Payloads no larger than {@link #getLargePayloadThreshold()} are written inline like a
+ * byte array. Larger payloads are copied once into an {@link android.os.SharedMemory SharedMemory}
+ * region and only its file descriptor is placed in the parcel, so they do not count
+ * towards the binder transaction limit, and the receiver maps the region and reads it
+ * through a read-only {@link java.nio.ByteBuffer ByteBuffer} without copying it again.</p>
+ *
  * <h3>Parcelables</h3>
  *
  * <p>The {@link android.os.Parcelable Parcelable} protocol provides an extremely efficient (but
@@ -194,6 +202,67 @@ public static android.os.Parcel obtain() { throw new RuntimeException("Stub!");
 
 public void recycle() { throw new RuntimeException("Stub!"); }
 
+/**
+ * Starts tracking the Parcels handed out by {@link #obtain()} in this process.
+ * <p>
+ * While tracking is enabled, each call to {@link #obtain()} records the calling stack.
+ * A Parcel that is garbage collected without having been passed to {@link #recycle()}
+ * is reported to {@link android.os.Parcel.TrackingListener#onParcelLeaked(java.lang.Throwable,int) TrackingListener#onParcelLeaked},
+ * and a Parcel whose data size exceeds {@code oversizeThresholdBytes} when it is
+ * recycled is reported to
+ * {@link android.os.Parcel.TrackingListener#onParcelOversized(java.lang.Throwable,int) TrackingListener#onParcelOversized}.
+ * Recording stacks makes {@link #obtain()} considerably slower, so tracking is meant
+ * for debug builds and tests. Calling this method again replaces the previous listener.
+ * </p>
+ *
+ * @param executor The executor on which the listener is called.
+ * This value must never be {@code null}.
+ * @param listener This value must never be {@code null}.
+ * @param oversizeThresholdBytes The data size above which a recycled Parcel is reported,
+ * or 0 to report only leaks.
+ * @throws java.lang.IllegalArgumentException if {@code oversizeThresholdBytes} is negative.
+ * @apiSince R
+ */
+
+public static void startTracking(@androidx.annotation.NonNull java.util.concurrent.Executor executor, @androidx.annotation.NonNull android.os.Parcel.TrackingListener listener, int oversizeThresholdBytes) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Stops tracking started by {@link #startTracking}. Parcels obtained while tracking was
+ * enabled are no longer reported.
+ * @apiSince R
+ */
+
+public static void stopTracking() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of Parcels obtained while tracking was enabled that have not yet
+ * been recycled, or 0 if tracking is not enabled.
+ * @apiSince R
+ */
+
+public static int getTrackedParcelCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the payload size, in bytes, above which {@link #writeByteBuffer(java.nio.ByteBuffer)}
+ * moves the payload into shared memory. The default is 64 KiB. Creating and mapping a
+ * shared memory region costs more than copying a small payload, so the threshold
+ * should not be set much lower.
+ *
+ * @param thresholdBytes Value is 4096 or greater.
+ * @throws java.lang.IllegalArgumentException if {@code thresholdBytes} is less than 4096.
+ * @apiSince R
+ */
+
+public static void setLargePayloadThreshold(int thresholdBytes) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the payload size, in bytes, above which {@link #writeByteBuffer(java.nio.ByteBuffer)}
+ * moves the payload into shared memory.
+ * @apiSince R
+ */
+
+public static int getLargePayloadThreshold() { throw new RuntimeException("Stub!"); }
+
 /**
  * Returns the total amount of data contained in the parcel.
  * @apiSince 1
@@ -329,6 +398,27 @@ public void writeByteArray(@androidx.annotation.Nullable byte[] b) { throw new R
 
 public void writeByteArray(@androidx.annotation.Nullable byte[] b, int offset, int len) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Write the bytes between {@code buffer}'s position and limit into the parcel at the
+ * current {@link #dataPosition}. The buffer's position is not changed.
+ * <p>
+ * Payloads larger than {@link #getLargePayloadThreshold()} are copied into a new
+ * {@link android.os.SharedMemory SharedMemory} region, and the region's file descriptor is
+ * written in their place; the region is released when the reader's buffer is
+ * garbage collected, or when this parcel is recycled if it is never read. Smaller
+ * payloads are written inline. Either way the payload must be read with
+ * {@link #readByteBuffer()}. A parcel holding a shared memory payload contains a file
+ * descriptor, so it cannot be sent where file descriptors are not allowed.
+ * </p>
+ *
+ * @param buffer Bytes to place into the parcel, or null.
+ * This value may be {@code null}.
+ * @throws android.os.ParcelFormatException if a shared memory region could not be created.
+ * @apiSince R
+ */
+
+public void writeByteBuffer(@androidx.annotation.Nullable java.nio.ByteBuffer buffer) { throw new RuntimeException("Stub!"); }
+
 /**
  * Write an integer value into the parcel at the current dataPosition(),
  * growing dataCapacity() if needed.
@@ -1169,6 +1259,26 @@ public byte[] createByteArray() { throw new RuntimeException("Stub!"); }
 
 public void readByteArray(@androidx.annotation.NonNull byte[] val) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Read a payload written by {@link #writeByteBuffer(java.nio.ByteBuffer)}.
+ * <p>
+ * A payload that was moved into shared memory is returned as a read-only view of the
+ * mapped region, without copying it; the mapping is released when the returned buffer
+ * is garbage collected. A payload that was written inline is returned as a read-only
+ * buffer over a copy of its bytes. Use {@link java.nio.ByteBuffer#isDirect()} to tell
+ * the two apart if needed.
+ * </p>
+ *
+ * @return A read-only buffer positioned at 0, or null if null was written.
+ * This value may be {@code null}.
+ * @throws android.os.BadParcelableException if the data at the current position was not
+ * written by {@link #writeByteBuffer(java.nio.ByteBuffer)}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public java.nio.ByteBuffer readByteBuffer() { throw new RuntimeException("Stub!"); }
+
 /**
  * Read and return a new ArrayList object from the parcel at the current
  * dataPosition().  Returns null if the previously written list object was
@@ -1488,5 +1598,38 @@ protected void finalize() throws java.lang.Throwable { throw new RuntimeExceptio
 
 public static final android.os.Parcelable.Creator<java.lang.String> STRING_CREATOR;
 static { STRING_CREATOR = null; }
+/**
+ * Receives the reports of {@link android.os.Parcel#startTracking Parcel#startTracking}.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static interface TrackingListener {
+
+/**
+ * Called when a Parcel was garbage collected without having been recycled.
+ *
+ * @param obtainStack The stack of the {@link android.os.Parcel#obtain() Parcel#obtain()}
+ * call that returned the Parcel.
+ * This value will never be {@code null}.
+ * @param dataCapacity The capacity of the Parcel's data buffer when it was collected.
+ * @apiSince R
+ */
+
+public void onParcelLeaked(@androidx.annotation.NonNull java.lang.Throwable obtainStack, int dataCapacity);
+
+/**
+ * Called when a Parcel larger than the tracking threshold is recycled.
+ *
+ * @param obtainStack The stack of the {@link android.os.Parcel#obtain() Parcel#obtain()}
+ * call that returned the Parcel.
+ * This value will never be {@code null}.
+ * @param dataSize The Parcel's data size when it was recycled.
+ * @apiSince R
+ */
+
+public void onParcelOversized(@androidx.annotation.NonNull java.lang.Throwable obtainStack, int dataSize);
+}
+
 }
 
@@ -25,6 +25,7 @@ import java.util.ArrayList;
  * safely be persisted to and restored from disk.
  *
  * @see android.os.Bundle
+ * @see android.os.BinaryBundleFormat
  * @apiSince 21
  */
 
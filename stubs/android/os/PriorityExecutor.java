@@ -0,0 +1,389 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.os;
+
+
+/**
+ * An {@link java.util.concurrent.Executor Executor} that runs tasks on a shared pool of threads
+ * in priority lanes, so that background work cannot delay interactive work.
+ *
+ * <p>Every task is submitted to one of three lanes: {@link #PRIORITY_INTERACTIVE} for work
+ * the user is waiting for, {@link #PRIORITY_DEFAULT}, and {@link #PRIORITY_BACKGROUND} for
+ * prefetching, syncing and other work nobody is waiting for. When a thread becomes free
+ * it takes the next task from the highest priority lane that has one queued and has
+ * not reached its concurrency limit. Limiting the lower lanes, for example to one
+ * background task at a time, keeps threads available for interactive tasks even when
+ * a large amount of background work is queued.
+ *
+ * <p>Within a lane, tasks run in order of their deadlines. So that a steady stream of
+ * tasks with deadlines cannot starve the others, a task without a deadline is ordered
+ * as if its deadline were its submission time plus the lane's aging interval, see
+ * {@link android.os.PriorityExecutor.Builder#setLaneAgingMillis(int,long) Builder#setLaneAgingMillis};
+ * it is never discarded for reaching that time, and tasks without a deadline keep
+ * their submission order among themselves. A task whose deadline passes while
+ * it is still queued is not run; if it was submitted with a
+ * {@link android.os.CancellationSignal CancellationSignal}, the signal is canceled so that
+ * whoever waits for the result is told. A task whose signal has been canceled is
+ * skipped when it reaches the head of its lane. A running task is not interrupted; it
+ * should check the signal itself.
+ *
+ * <p>Each lane has a bounded queue. When it is full, submitting to it throws
+ * {@link java.util.concurrent.RejectedExecutionException RejectedExecutionException}, which
+ * gives producers backpressure instead of letting the queue grow without limit. Queue
+ * depth and wait times of each lane are available from {@link #getLaneStats(int)}.
+ *
+ * <p>{@link #forPriority(int)} returns a plain {@link java.util.concurrent.Executor Executor} for one lane,
+ * which can be passed to APIs that accept an executor, such as
+ * {@link android.os.AsyncTask#executeOnExecutor(java.util.concurrent.Executor,java.lang.Object[]) AsyncTask#executeOnExecutor}.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class PriorityExecutor implements java.util.concurrent.Executor {
+
+private PriorityExecutor() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the process-wide executor. Its pool has as many threads as there are CPU
+ * cores, at least two, and its background lane runs at most one task at a time.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public static android.os.PriorityExecutor getDefault() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Runs {@code command} in the {@link #PRIORITY_DEFAULT} lane.
+ *
+ * @param command This value must never be {@code null}.
+ * @throws java.util.concurrent.RejectedExecutionException if the lane's queue is full or
+ * the executor has been shut down.
+ * @apiSince R
+ */
+
+public void execute(@androidx.annotation.NonNull java.lang.Runnable command) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Runs {@code command} in the given lane.
+ *
+ * @param command This value must never be {@code null}.
+ * @param priority Value is {@link android.os.PriorityExecutor#PRIORITY_INTERACTIVE}, {@link android.os.PriorityExecutor#PRIORITY_DEFAULT}, or {@link android.os.PriorityExecutor#PRIORITY_BACKGROUND}
+ * @throws java.util.concurrent.RejectedExecutionException if the lane's queue is full or
+ * the executor has been shut down.
+ * @apiSince R
+ */
+
+public void execute(@androidx.annotation.NonNull java.lang.Runnable command, int priority) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Runs {@code command} in the given lane if it can be started before
+ * {@code deadlineUptimeMillis}.
+ * <p>
+ * If the deadline passes while the task is queued, or {@code signal} is canceled before
+ * the task starts, the task is discarded without running; in the first case
+ * {@code signal} is canceled as well. If the signal has already been canceled, this
+ * method does nothing.
+ * </p><p>
+ * The executor does not install an
+ * {@link android.os.CancellationSignal.OnCancelListener CancellationSignal.OnCancelListener} on
+ * {@code signal}, so a listener set by the caller or by the task stays in place. Instead,
+ * the signal is checked with {@link android.os.CancellationSignal#isCanceled() CancellationSignal#isCanceled()}
+ * when the task is about to start. A canceled task therefore keeps its place in the
+ * lane's queue until it is reached, or until a submission finds the lane full, at which
+ * point canceled and expired tasks are discarded before the new task is rejected.
+ * </p>
+ *
+ * @param command This value must never be {@code null}.
+ * @param priority Value is {@link android.os.PriorityExecutor#PRIORITY_INTERACTIVE}, {@link android.os.PriorityExecutor#PRIORITY_DEFAULT}, or {@link android.os.PriorityExecutor#PRIORITY_BACKGROUND}
+ * @param deadlineUptimeMillis The latest time the task may start, in the
+ * {@link android.os.SystemClock#uptimeMillis() SystemClock#uptimeMillis()} time base, or
+ * {@link java.lang.Long#MAX_VALUE Long#MAX_VALUE} for no deadline.
+ * @param signal A signal to cancel the task, or null.
+ * This value may be {@code null}.
+ * @throws java.util.concurrent.RejectedExecutionException if the lane's queue is full or
+ * the executor has been shut down.
+ * @apiSince R
+ */
+
+public void execute(@androidx.annotation.NonNull java.lang.Runnable command, int priority, long deadlineUptimeMillis, @androidx.annotation.Nullable android.os.CancellationSignal signal) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns an executor that submits tasks to the given lane of this executor.
+ *
+ * @param priority Value is {@link android.os.PriorityExecutor#PRIORITY_INTERACTIVE}, {@link android.os.PriorityExecutor#PRIORITY_DEFAULT}, or {@link android.os.PriorityExecutor#PRIORITY_BACKGROUND}
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public java.util.concurrent.Executor forPriority(int priority) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a snapshot of the counters of the given lane.
+ *
+ * @param priority Value is {@link android.os.PriorityExecutor#PRIORITY_INTERACTIVE}, {@link android.os.PriorityExecutor#PRIORITY_DEFAULT}, or {@link android.os.PriorityExecutor#PRIORITY_BACKGROUND}
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.os.PriorityExecutor.LaneStats getLaneStats(int priority) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Stops accepting new tasks. Queued and running tasks are completed, and the pool's
+ * threads exit once they are idle. The executor returned by {@link #getDefault()}
+ * cannot be shut down.
+ *
+ * @throws java.lang.IllegalStateException if this is the default executor.
+ * @apiSince R
+ */
+
+public void shutdown() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether {@link #shutdown()} has been called.
+ * @apiSince R
+ */
+
+public boolean isShutdown() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+
+/**
+ * The lane for work that runs only when nothing else is waiting, such as
+ * prefetching or syncing.
+ * @apiSince R
+ */
+
+public static final int PRIORITY_BACKGROUND = 2; // 0x2
+
+/**
+ * The lane for work without particular urgency.
+ * @apiSince R
+ */
+
+public static final int PRIORITY_DEFAULT = 1; // 0x1
+
+/**
+ * The lane for work the user is waiting for.
+ * @apiSince R
+ */
+
+public static final int PRIORITY_INTERACTIVE = 0; // 0x0
+/**
+ * Builder for {@link android.os.PriorityExecutor PriorityExecutor}.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static final class Builder {
+
+/**
+ * Creates a builder for an executor with as many threads as there are CPU cores, at
+ * least two, no concurrency limit on the interactive and default lanes, a limit of
+ * one on the background lane, and room for 128 queued tasks per lane.
+ * @apiSince R
+ */
+
+public Builder() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the name prefix of the pool's threads.
+ *
+ * @param name This value must never be {@code null}.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.os.PriorityExecutor.Builder setName(@androidx.annotation.NonNull java.lang.String name) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the number of threads in the pool. Threads are started on demand and exit
+ * after being idle for a while.
+ *
+ * @param threadCount Value is 1 or greater
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.os.PriorityExecutor.Builder setThreadCount(int threadCount) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the maximum number of tasks of a lane that run at the same time. A limit
+ * greater than the thread count has no effect.
+ *
+ * @param priority Value is {@link android.os.PriorityExecutor#PRIORITY_INTERACTIVE}, {@link android.os.PriorityExecutor#PRIORITY_DEFAULT}, or {@link android.os.PriorityExecutor#PRIORITY_BACKGROUND}
+ * @param maxConcurrency Value is 1 or greater
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.os.PriorityExecutor.Builder setLaneConcurrency(int priority, int maxConcurrency) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the maximum number of tasks queued in a lane. Submitting a task to a full lane
+ * throws {@link java.util.concurrent.RejectedExecutionException RejectedExecutionException}.
+ *
+ * @param priority Value is {@link android.os.PriorityExecutor#PRIORITY_INTERACTIVE}, {@link android.os.PriorityExecutor#PRIORITY_DEFAULT}, or {@link android.os.PriorityExecutor#PRIORITY_BACKGROUND}
+ * @param capacity Value is 1 or greater
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.os.PriorityExecutor.Builder setLaneQueueCapacity(int priority, int capacity) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets how long a task without a deadline waits in a lane before it is ordered ahead of
+ * tasks whose deadlines are later. Such a task is queued as if its deadline were its
+ * submission time plus {@code agingMillis}, but it still runs if that time passes.
+ * Smaller values favor fairness, larger values favor tasks with deadlines. The default
+ * is 1000 milliseconds.
+ *
+ * @param priority Value is {@link android.os.PriorityExecutor#PRIORITY_INTERACTIVE}, {@link android.os.PriorityExecutor#PRIORITY_DEFAULT}, or {@link android.os.PriorityExecutor#PRIORITY_BACKGROUND}
+ * @param agingMillis Value is 0 or greater
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.os.PriorityExecutor.Builder setLaneAgingMillis(int priority, long agingMillis) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the {@link android.os.Process#setThreadPriority(int) Process#setThreadPriority(int)}
+ * value a thread runs with while it executes a task of the given lane. By default
+ * interactive tasks run at {@link android.os.Process#THREAD_PRIORITY_DEFAULT Process#THREAD_PRIORITY_DEFAULT}
+ * and the other lanes at {@link android.os.Process#THREAD_PRIORITY_BACKGROUND Process#THREAD_PRIORITY_BACKGROUND}.
+ *
+ * @param priority Value is {@link android.os.PriorityExecutor#PRIORITY_INTERACTIVE}, {@link android.os.PriorityExecutor#PRIORITY_DEFAULT}, or {@link android.os.PriorityExecutor#PRIORITY_BACKGROUND}
+ * @param threadPriority Value is between -20 and 19 inclusive
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.os.PriorityExecutor.Builder setLaneThreadPriority(int priority, int threadPriority) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Creates the executor.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.os.PriorityExecutor build() { throw new RuntimeException("Stub!"); }
+}
+
+/**
+ * A snapshot of the counters of one lane of a {@link android.os.PriorityExecutor PriorityExecutor}.
+ * Queue wait is the time from submission until a thread started the task.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static final class LaneStats {
+
+private LaneStats() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the lane these counters belong to.
+ *
+ * @return Value is {@link android.os.PriorityExecutor#PRIORITY_INTERACTIVE}, {@link android.os.PriorityExecutor#PRIORITY_DEFAULT}, or {@link android.os.PriorityExecutor#PRIORITY_BACKGROUND}
+ * @apiSince R
+ */
+
+public int getPriority() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of tasks queued when the snapshot was taken.
+ * @apiSince R
+ */
+
+public int getQueuedCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the largest number of tasks that were queued at the same time.
+ * @apiSince R
+ */
+
+public int getMaxQueuedCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of tasks running when the snapshot was taken.
+ * @apiSince R
+ */
+
+public int getRunningCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of tasks that ran to completion, whether or not they threw.
+ * @apiSince R
+ */
+
+public long getCompletedCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of tasks removed from the queue because their signal was canceled.
+ * @apiSince R
+ */
+
+public long getCanceledCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of tasks removed from the queue because their deadline passed.
+ * @apiSince R
+ */
+
+public long getExpiredCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of tasks rejected because the lane's queue was full.
+ * @apiSince R
+ */
+
+public long getRejectedCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the total time started tasks spent queued, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getTotalQueueWaitNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the longest time a started task spent queued, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getMaxQueueWaitNanos() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+}
+
+}
+
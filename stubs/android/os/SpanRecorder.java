@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.os;
+
+
+/**
+ * Records timed, nested spans in memory and exports them as a trace file.
+ *
+ * <p>Unlike {@link android.os.Trace Trace}, which writes to the system trace buffer and
+ * needs an external tool to collect it, a SpanRecorder keeps its spans in the process,
+ * so an app can record a scenario and save the result itself. Spans are stored in
+ * arrays allocated when the recorder is created: {@link #beginSpan(java.lang.String)} and
+ * {@link #endSpan(int)} write a name reference and a {@link java.lang.System#nanoTime() System#nanoTime()}
+ * timestamp into the next slot without locking or allocating. Each span records the
+ * thread that began it and the span that was open on that thread at the time, its
+ * parent. When the buffer is full, the oldest spans are overwritten and counted by
+ * {@link #getOverwrittenSpanCount()}.
+ *
+ * <p>{@link #writeChromeJson(java.io.OutputStream)} exports the spans in the Chrome JSON
+ * trace event format, which can be opened in Perfetto UI and {@code chrome://tracing}.
+ * Timestamps use the same clock as the system trace.
+ *
+ * <p>Existing instrumentation can feed a recorder: while one is installed with
+ * {@link android.os.Trace#setSpanRecorder(android.os.SpanRecorder) Trace#setSpanRecorder},
+ * sections begun with {@link android.os.Trace#beginSection(java.lang.String) Trace#beginSection}
+ * and {@link android.os.Trace#beginAsyncSection(java.lang.String,int) Trace#beginAsyncSection}
+ * and the splits of {@link android.util.TimingLogger TimingLogger} are recorded as spans too.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class SpanRecorder {
+
+/**
+ * Creates a recorder that holds up to {@code capacity} spans.
+ *
+ * @param capacity Value is 1 or greater
+ * @apiSince R
+ */
+
+public SpanRecorder(int capacity) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Begins a span on the calling thread. The span open on this thread, if any, becomes
+ * its parent. The name is stored by reference, so pass a constant rather than a
+ * string built for this call.
+ *
+ * @param name This value must never be {@code null}.
+ * @return An identifier to pass to {@link #endSpan(int)}.
+ * @apiSince R
+ */
+
+public int beginSpan(@androidx.annotation.NonNull java.lang.String name) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Ends the span with the given identifier, and any spans begun inside it on the same
+ * thread that are still open. Does nothing if the span has already ended or has been
+ * overwritten.
+ *
+ * @param spanId An identifier returned by {@link #beginSpan(java.lang.String)}.
+ * @apiSince R
+ */
+
+public void endSpan(int spanId) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Records a span with explicit start and end times, for example one measured on
+ * another thread. The span has no parent.
+ *
+ * @param name This value must never be {@code null}.
+ * @param startNanos The start time, in the {@link java.lang.System#nanoTime() System#nanoTime()} time base.
+ * @param endNanos The end time, not before {@code startNanos}.
+ * @apiSince R
+ */
+
+public void addSpan(@androidx.annotation.NonNull java.lang.String name, long startNanos, long endNanos) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of spans currently held, including spans that have not ended.
+ * @apiSince R
+ */
+
+public int getSpanCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of spans overwritten because the buffer was full.
+ * @apiSince R
+ */
+
+public long getOverwrittenSpanCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Discards all recorded spans. Spans that are open on some thread are discarded too;
+ * ending them later has no effect.
+ * @apiSince R
+ */
+
+public void clear() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Writes the recorded spans to {@code out} as a Chrome JSON trace. Each ended span is a
+ * complete event carrying its thread, and its parent's name in its arguments; spans
+ * that have not ended are written as begin events. Threads are named with their
+ * names at the time of export. Recording may continue while this method runs; spans
+ * begun after it started are not included.
+ *
+ * @param out This value must never be {@code null}.
+ * @throws java.io.IOException if writing to {@code out} failed.
+ * @apiSince R
+ */
+
+public void writeChromeJson(@androidx.annotation.NonNull java.io.OutputStream out) throws java.io.IOException { throw new RuntimeException("Stub!"); }
+}
+
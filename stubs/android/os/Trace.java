@@ -42,6 +42,11 @@ private Trace() { throw new RuntimeException("Stub!"); }
  * to guard all Trace method calls as they internally already check this. However it is
  * recommended to use this to prevent creating any temporary objects that would then be
  * passed to those methods to reduce runtime cost when tracing isn't enabled.
+ * <p>
+ * This reports system tracing only and is not affected by a recorder installed with
+ * {@link #setSpanRecorder(android.os.SpanRecorder)}. Code that builds section names for a
+ * recorder as well should also check {@link #isSpanRecordingEnabled()}.
+ * </p>
  *
  * @return true if tracing is currently enabled, false otherwise
  * @apiSince 29
@@ -115,5 +120,44 @@ public static void endAsyncSection(@androidx.annotation.NonNull java.lang.String
  */
 
 public static void setCounter(@androidx.annotation.NonNull java.lang.String counterName, long counterValue) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Installs a recorder that receives the sections of this process in addition to the
+ * system trace, replacing any previous recorder.
+ * <p>
+ * While a recorder is installed, {@link #beginSection(java.lang.String)} and
+ * {@link #endSection()} also begin and end a span on it, and each asynchronous section
+ * is recorded as a span without a parent when it ends. Sections are recorded whether or
+ * not system tracing is enabled. Installing a recorder does not change
+ * {@link #isEnabled()}; use {@link #isSpanRecordingEnabled()} to check for one.
+ * </p>
+ *
+ * @param recorder The recorder, or null to stop recording sections.
+ * This value may be {@code null}.
+ * @apiSince R
+ */
+
+public static void setSpanRecorder(@androidx.annotation.Nullable android.os.SpanRecorder recorder) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the recorder installed with {@link #setSpanRecorder(android.os.SpanRecorder)}, or null.
+ *
+ * @return This value may be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public static android.os.SpanRecorder getSpanRecorder() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Checks whether a recorder is installed with {@link #setSpanRecorder(android.os.SpanRecorder)}.
+ * Like {@link #isEnabled()}, this can guard the creation of formatted section names;
+ * sections are recorded if either method returns true.
+ *
+ * @return true if a span recorder is installed, false otherwise
+ * @apiSince R
+ */
+
+public static boolean isSpanRecordingEnabled() { throw new RuntimeException("Stub!"); }
 }
 
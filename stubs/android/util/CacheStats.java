@@ -0,0 +1,282 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.util;
+
+
+/**
+ * An immutable snapshot of the statistics of an {@link android.util.LruCache LruCache}
+ * or {@link android.util.ConcurrentLruCache ConcurrentLruCache}.
+ *
+ * <p>Unlike the {@code int} counters of {@link android.util.LruCache LruCache}, which
+ * wrap around in long-lived processes, all counts here are {@code long}s. Time
+ * spent in {@code create} is recorded in a histogram of
+ * {@link #getCreateTimeHistogramBucketCount()} buckets whose upper bounds
+ * double from 1 microsecond, so the last bucket holds every load that took
+ * longer than about one minute. Evictions are broken down by
+ * cause so that a cache that is too small ({@link #EVICTION_CAUSE_SIZE}) can
+ * be told apart from one that is cleared by the application.
+ *
+ * <p>Two snapshots of the same cache can be subtracted with {@link #minus}
+ * to obtain the statistics of an interval, for example between two
+ * periodic reports.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class CacheStats {
+
+private CacheStats() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of lookups that returned a value already present in
+ * the cache.
+ * @apiSince R
+ */
+
+public long getHitCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of lookups that did not find a value in the cache,
+ * whether or not one was then created.
+ * @apiSince R
+ */
+
+public long getMissCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns {@link #getHitCount()} divided by the total number of lookups, or
+ * 0 if there were no lookups.
+ * @apiSince R
+ */
+
+public double getHitRate() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of values stored by {@code put}.
+ * @apiSince R
+ */
+
+public long getPutCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of times {@code create} returned a value.
+ * @apiSince R
+ */
+
+public long getCreateCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of times {@code create} returned null or, for
+ * asynchronous loads, completed exceptionally.
+ * @apiSince R
+ */
+
+public long getCreateFailureCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the total time spent in {@code create}, in nanoseconds, including
+ * failed attempts.
+ * @apiSince R
+ */
+
+public long getTotalCreateTimeNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of buckets in the {@code create} time histogram.
+ * @apiSince R
+ */
+
+public int getCreateTimeHistogramBucketCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of {@code create} calls that took at most the upper
+ * bound of {@code bucket}, and more than the upper bound of the previous
+ * bucket.
+ *
+ * @param bucket Value is between 0 and {@link #getCreateTimeHistogramBucketCount()} - 1 inclusive
+ * @apiSince R
+ */
+
+public long getCreateTimeHistogramCount(int bucket) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the inclusive upper bound of {@code bucket} in nanoseconds. The
+ * last bucket's upper bound is {@link java.lang.Long#MAX_VALUE Long#MAX_VALUE}.
+ *
+ * @param bucket Value is between 0 and {@link #getCreateTimeHistogramBucketCount()} - 1 inclusive
+ * @apiSince R
+ */
+
+public long getCreateTimeHistogramUpperBoundNanos(int bucket) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns an estimate of the given percentile of {@code create} times in
+ * nanoseconds, interpolated within the histogram bucket that contains it,
+ * or 0 if nothing was created.
+ *
+ * @param percentile Value is between 0.0 and 100.0 inclusive
+ * @apiSince R
+ */
+
+public long getCreateTimePercentileNanos(double percentile) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the total number of entries the cache removed on its own, that is for
+ * any cause other than {@link #EVICTION_CAUSE_EXPLICIT}. Entries removed or replaced
+ * by the caller are not evictions and are only counted by
+ * {@link #getEvictionCount(int)} with {@link #EVICTION_CAUSE_EXPLICIT}.
+ * <p>
+ * For a cache without expiry or soft or weak values, this equals the cache's own
+ * {@code evictionCount()}, which counts entries evicted to fit the cache's size.
+ * </p>
+ * @apiSince R
+ */
+
+public long getEvictionCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of entries removed for the given cause.
+ *
+ * @param cause Value is {@link android.util.CacheStats#EVICTION_CAUSE_SIZE}, {@link android.util.CacheStats#EVICTION_CAUSE_EXPLICIT}, {@link android.util.CacheStats#EVICTION_CAUSE_RESIZE}, {@link android.util.CacheStats#EVICTION_CAUSE_EXPIRED}, or {@link android.util.CacheStats#EVICTION_CAUSE_COLLECTED}
+ * @apiSince R
+ */
+
+public long getEvictionCount(int cause) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the statistics accumulated since {@code other} was taken, by
+ * subtracting each of its counts from this snapshot's.
+ *
+ * @param other an earlier snapshot of the same cache.
+ * This value must never be {@code null}.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.util.CacheStats minus(@androidx.annotation.NonNull android.util.CacheStats other) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+
+/**
+ * The entry was removed by {@code remove} or {@code evictAll}, or replaced by {@code put}.
+ * Such removals are requested by the caller and are not included in
+ * {@link #getEvictionCount()}.
+ * @apiSince R
+ */
+
+public static final int EVICTION_CAUSE_EXPLICIT = 1; // 0x1
+
+/**
+ * The entry's value was held through a soft or weak reference and was
+ * reclaimed by the garbage collector.
+ * @apiSince R
+ */
+
+public static final int EVICTION_CAUSE_COLLECTED = 4; // 0x4
+
+/**
+ * The entry outlived its expire-after-write or expire-after-access duration.
+ * @apiSince R
+ */
+
+public static final int EVICTION_CAUSE_EXPIRED = 3; // 0x3
+
+/**
+ * The entry was evicted because {@code resize} or {@code trimToSize}
+ * lowered the size the cache must fit in.
+ * @apiSince R
+ */
+
+public static final int EVICTION_CAUSE_RESIZE = 2; // 0x2
+
+/**
+ * The entry was evicted to make room for a new entry.
+ * @apiSince R
+ */
+
+public static final int EVICTION_CAUSE_SIZE = 0; // 0x0
+/**
+ * Receives cache events as they happen, for example to export them as
+ * {@link android.os.Trace#setCounter(java.lang.String,long) Trace#setCounter(String, long)}
+ * counters or to an application's own metrics pipeline.
+ *
+ * <p>Methods are called on the thread that caused the event, without
+ * holding any cache lock. Implementations should be cheap and must not
+ * block. All methods have empty default implementations.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static interface Listener {
+
+/**
+ * Called after a lookup found a value in the cache.
+ * @apiSince R
+ */
+
+public default void onHit() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Called after a lookup did not find a value in the cache.
+ * @apiSince R
+ */
+
+public default void onMiss() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Called after {@code create} returned.
+ *
+ * @param durationNanos the time spent creating the value.
+ * @param success false if no value was created.
+ * @apiSince R
+ */
+
+public default void onCreate(long durationNanos, boolean success) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Called after an entry was removed from the cache.
+ *
+ * @param cause Value is {@link android.util.CacheStats#EVICTION_CAUSE_SIZE}, {@link android.util.CacheStats#EVICTION_CAUSE_EXPLICIT}, {@link android.util.CacheStats#EVICTION_CAUSE_RESIZE}, {@link android.util.CacheStats#EVICTION_CAUSE_EXPIRED}, or {@link android.util.CacheStats#EVICTION_CAUSE_COLLECTED}
+ * @param size the size of the removed entry as returned by {@code sizeOf},
+ *     which the cache no longer counts.
+ * @apiSince R
+ */
+
+public default void onEviction(int cause, int size) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a listener that publishes running totals of hits, misses,
+ * {@code create} calls and evictions as {@link android.os.Trace} counters
+ * named {@code prefix + ".hits"}, {@code prefix + ".misses"},
+ * {@code prefix + ".creates"} and {@code prefix + ".evictions"}. Counters
+ * are only written while {@link android.os.Trace#isEnabled() Trace#isEnabled()} is true.
+ *
+ * @param prefix This value must never be {@code null}.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public static android.util.CacheStats.Listener newTraceCounterListener(@androidx.annotation.NonNull java.lang.String prefix) { throw new RuntimeException("Stub!"); }
+}
+
+}
+
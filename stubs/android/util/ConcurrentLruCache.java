@@ -0,0 +1,452 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.util;
+
+
+/**
+ * A size-bounded cache with the same contract as {@link android.util.LruCache},
+ * designed to be shared by many threads without a single point of contention.
+ *
+ * <p>{@link android.util.LruCache} synchronizes every operation, including
+ * reads and statistics, on the cache itself. This class instead keeps its
+ * entries in a concurrent hash table, so {@link #get} never blocks on other
+ * readers or writers. Reads are recorded in small per-thread-striped buffers
+ * and applied to the {@link android.util.ConcurrentLruCache.EvictionPolicy EvictionPolicy}
+ * in batches by whichever thread next acquires the eviction lock; a full read
+ * buffer simply drops the access record rather than waiting. Writes are
+ * applied to the policy under the eviction lock, which is held only long enough
+ * to update the policy and pick victims, never while {@link #create},
+ * {@link #sizeOf} or {@link #entryRemoved} run. Statistics are kept in striped
+ * counters that are never read under a lock.
+ *
+ * <p>Which entry is evicted when the cache exceeds its maximum size is decided
+ * by an {@link android.util.ConcurrentLruCache.EvictionPolicy EvictionPolicy}. Three
+ * policies are built in:
+ * <ul>
+ * <li>{@link android.util.ConcurrentLruCache.EvictionPolicy#newLruPolicy() EvictionPolicy#newLruPolicy()},
+ * which evicts the least recently accessed entry, like {@link android.util.LruCache}.
+ * <li>{@link android.util.ConcurrentLruCache.EvictionPolicy#newSegmentedLruPolicy(float) EvictionPolicy#newSegmentedLruPolicy(float)},
+ * which only protects entries that were accessed at least twice, so that a
+ * single scan cannot flush the whole cache.
+ * <li>{@link android.util.ConcurrentLruCache.EvictionPolicy#newWindowTinyLfuPolicy(float) EvictionPolicy#newWindowTinyLfuPolicy(float)},
+ * which admits new entries through a small LRU window and keeps them only if
+ * their estimated access frequency beats the entry they would replace.
+ * </ul>
+ *
+ * <p>Because recency updates are batched and may be dropped under heavy load,
+ * the eviction order is approximate. In particular {@link #snapshot} reflects
+ * the policy's order as of the last drain, not necessarily the exact order in
+ * which entries were read.
+ *
+ * <p>As with {@link android.util.LruCache}, override {@link #entryRemoved} to
+ * release resources held by removed values, {@link #create} to compute values
+ * on a miss, and {@link #sizeOf} to size the cache in units other than entries.
+ * Synchronizing on the cache does <em>not</em> make a sequence of operations
+ * atomic; use {@link #putIfAbsent} instead.
+ *
+ * <p>This class does not allow null to be used as a key or value.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public class ConcurrentLruCache<K, V> {
+
+/**
+ * Creates a cache that evicts the least recently used entries, with a
+ * concurrency level chosen from the number of available processors.
+ *
+ * @param maxSize for caches that do not override {@link #sizeOf}, this is
+ *     the maximum number of entries in the cache. For all other caches,
+ *     this is the maximum sum of the sizes of the entries in this cache.
+ * @apiSince R
+ */
+
+public ConcurrentLruCache(int maxSize) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Creates a cache that uses {@code policy} to choose which entries to evict.
+ *
+ * @param maxSize for caches that do not override {@link #sizeOf}, this is
+ *     the maximum number of entries in the cache. For all other caches,
+ *     this is the maximum sum of the sizes of the entries in this cache.
+ * @param concurrencyLevel the expected number of threads accessing the cache
+ *     at the same time. This sizes the number of read buffer stripes; it is
+ *     a hint, not a limit. Value is 1 or greater
+ * @param policy the eviction policy. A policy instance must not be shared
+ *     between caches.
+ * This value must never be {@code null}.
+ * @apiSince R
+ */
+
+public ConcurrentLruCache(int maxSize, int concurrencyLevel, @androidx.annotation.NonNull android.util.ConcurrentLruCache.EvictionPolicy<K> policy) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the size of the cache, evicting entries chosen by the policy until
+ * the cache fits.
+ *
+ * @param maxSize The new maximum size.
+ * @apiSince R
+ */
+
+public void resize(int maxSize) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the value for {@code key} if it exists in the cache or can be
+ * created by {@code #create}. If a value was returned, an access is recorded
+ * for the policy. This returns null if a value is not cached and cannot be
+ * created.
+ *
+ * <p>A hit does not acquire any lock. A miss calls {@link #create} without
+ * holding any lock, so several threads missing on the same key may each
+ * create a value; all but the first one stored are released with
+ * {@link #entryRemoved}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public final V get(@androidx.annotation.NonNull K key) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Caches {@code value} for {@code key}, replacing any previous value.
+ *
+ * @return the previous value mapped by {@code key}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public final V put(@androidx.annotation.NonNull K key, @androidx.annotation.NonNull V value) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Caches {@code value} for {@code key} only if no value is currently cached
+ * for it. This is the atomic replacement for the
+ * {@code synchronized (cache)} idiom used with {@link android.util.LruCache}.
+ *
+ * @return the value already mapped by {@code key}, or null if {@code value}
+ *     was stored.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public final V putIfAbsent(@androidx.annotation.NonNull K key, @androidx.annotation.NonNull V value) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Remove entries chosen by the policy until the total of remaining entries
+ * is at or below the requested size.
+ *
+ * @param maxSize the maximum size of the cache before returning. May be -1
+ *            to evict even 0-sized elements.
+ * @apiSince R
+ */
+
+public void trimToSize(int maxSize) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Removes the entry for {@code key} if it exists.
+ *
+ * @return the previous value mapped by {@code key}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public final V remove(@androidx.annotation.NonNull K key) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Applies any buffered access records to the policy and performs pending
+ * evictions. This happens automatically during normal use; calling it is
+ * only useful before inspecting {@link #snapshot} or in tests.
+ * @apiSince R
+ */
+
+public void cleanUp() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Called for entries that have been evicted or removed. This method is
+ * invoked when a value is evicted to make space, removed by a call to
+ * {@link #remove}, or replaced by a call to {@link #put}. The default
+ * implementation does nothing.
+ *
+ * <p>The method is called without holding any lock: other threads may
+ * access the cache while this method is executing.
+ *
+ * @param evicted true if the entry is being removed to make space, false
+ *     if the removal was caused by a {@link #put} or {@link #remove}.
+ * @param newValue the new value for {@code key}, if it exists. If non-null,
+ *     this removal was caused by a {@link #put}. Otherwise it was caused by
+ *     an eviction or a {@link #remove}.
+ * @apiSince R
+ */
+
+protected void entryRemoved(boolean evicted, K key, V oldValue, V newValue) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Called after a cache miss to compute a value for the corresponding key.
+ * Returns the computed value or null if no value can be computed. The
+ * default implementation returns null.
+ *
+ * <p>The method is called without holding any lock: other threads may
+ * access the cache while this method is executing.
+ *
+ * <p>If a value for {@code key} exists in the cache when this method
+ * returns, the created value will be released with {@link #entryRemoved}
+ * and discarded.
+ * @apiSince R
+ */
+
+protected V create(K key) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the size of the entry for {@code key} and {@code value} in
+ * user-defined units.  The default implementation returns 1 so that size
+ * is the number of entries and max size is the maximum number of entries.
+ *
+ * <p>An entry's size must not change while it is in the cache.
+ * @apiSince R
+ */
+
+protected int sizeOf(K key, V value) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Clear the cache, calling {@link #entryRemoved} on each removed entry.
+ * @apiSince R
+ */
+
+public final void evictAll() { throw new RuntimeException("Stub!"); }
+
+/**
+ * For caches that do not override {@link #sizeOf}, this returns the number
+ * of entries in the cache. For all other caches, this returns the sum of
+ * the sizes of the entries in this cache.
+ * @apiSince R
+ */
+
+public final int size() { throw new RuntimeException("Stub!"); }
+
+/**
+ * For caches that do not override {@link #sizeOf}, this returns the maximum
+ * number of entries in the cache. For all other caches, this returns the
+ * maximum sum of the sizes of the entries in this cache.
+ * @apiSince R
+ */
+
+public final int maxSize() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of times {@link #get} returned a value that was
+ * already present in the cache.
+ * @apiSince R
+ */
+
+public final long hitCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of times {@link #get} returned null or required a new
+ * value to be created.
+ * @apiSince R
+ */
+
+public final long missCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of times {@link #create(java.lang.Object)} returned a value.
+ * @apiSince R
+ */
+
+public final long createCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of times {@link #put} or {@link #putIfAbsent} stored a value.
+ * @apiSince R
+ */
+
+public final long putCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of values that have been evicted to fit the cache's size. Values
+ * removed or replaced by the caller are not counted.
+ * @apiSince R
+ */
+
+public final long evictionCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a snapshot of this cache's statistics.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public final android.util.CacheStats stats() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets a listener to be notified of hits, misses, {@link #create} calls and
+ * evictions as they happen, replacing any previous listener. The counters
+ * behind {@link #stats()} are maintained whether or not a listener is set.
+ *
+ * @param listener the listener, or null to remove the current one.
+ * This value may be {@code null}.
+ * @apiSince R
+ */
+
+public final void setStatsListener(@androidx.annotation.Nullable android.util.CacheStats.Listener listener) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a copy of the current contents of the cache, ordered from the
+ * entry the policy would evict first to the entry it would evict last.
+ * Buffered access records are applied before the copy is taken.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public final java.util.Map<K,V> snapshot() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public final java.lang.String toString() { throw new RuntimeException("Stub!"); }
+/**
+ * Decides which entries a {@link android.util.ConcurrentLruCache ConcurrentLruCache} evicts.
+ *
+ * <p>A policy tracks keys only; the cache owns the values and their sizes.
+ * All methods are called by the cache while it holds its eviction lock, so
+ * implementations need no synchronization of their own, but they must not
+ * call back into the cache and should do constant work per call. Access
+ * records reach the policy in batches, after the reads they describe, and
+ * some of them may be dropped under contention.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public abstract static class EvictionPolicy<K> {
+
+/**
+ * Constructor for use by subclasses.
+ * @apiSince R
+ */
+
+protected EvictionPolicy() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Called when {@code key} is added to the cache.
+ *
+ * @param key This value will never be {@code null}.
+ * @param size the size of the entry as returned by
+ *     {@link android.util.ConcurrentLruCache#sizeOf ConcurrentLruCache#sizeOf}.
+ * @apiSince R
+ */
+
+public abstract void onAdded(@androidx.annotation.NonNull K key, int size);
+
+/**
+ * Called when {@code key}, which is in the cache, was read or replaced.
+ *
+ * @param key This value will never be {@code null}.
+ * @apiSince R
+ */
+
+public abstract void onAccessed(@androidx.annotation.NonNull K key);
+
+/**
+ * Called when {@code key} leaves the cache for any reason, including
+ * after being returned by {@link #selectVictim}.
+ *
+ * @param key This value will never be {@code null}.
+ * @apiSince R
+ */
+
+public abstract void onRemoved(@androidx.annotation.NonNull K key);
+
+/**
+ * Returns the key that should be evicted next, or null if the policy
+ * tracks no keys. The cache removes the returned entry and then calls
+ * {@link #onRemoved}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public abstract K selectVictim();
+
+/**
+ * Returns the tracked keys ordered from the one that would be evicted
+ * first to the one that would be evicted last. Used by
+ * {@link android.util.ConcurrentLruCache#snapshot ConcurrentLruCache#snapshot}.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public abstract java.util.List<K> evictionOrder();
+
+/**
+ * Called when the cache's maximum size changes, so that policies which
+ * split the cache into regions can resize them. The default implementation
+ * does nothing.
+ * @apiSince R
+ */
+
+public void onMaxSizeChanged(int maxSize) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a policy that evicts the least recently accessed entry, matching
+ * {@link android.util.LruCache}.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public static <K> android.util.ConcurrentLruCache.EvictionPolicy<K> newLruPolicy() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a segmented LRU policy. New entries enter a probationary segment
+ * and are promoted to a protected segment when accessed again; entries
+ * demoted from the protected segment return to the probationary one.
+ * Victims are taken from the probationary segment first.
+ *
+ * @param protectedFraction the share of the maximum size reserved for the
+ *     protected segment, between 0 and 1 exclusive. 0.8 is a good default.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public static <K> android.util.ConcurrentLruCache.EvictionPolicy<K> newSegmentedLruPolicy(float protectedFraction) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a Window TinyLFU policy. New entries enter a small LRU window; an
+ * entry leaving the window is admitted to the main segmented LRU region
+ * only if a compact, periodically halved count-min sketch estimates that it
+ * has been accessed more often than the main region's next victim. This
+ * keeps frequently used entries resident through scans and bursts of
+ * one-off keys.
+ *
+ * @param windowFraction the share of the maximum size reserved for the
+ *     admission window, between 0 and 1 exclusive. 0.01 is a good default
+ *     for most workloads; recency-heavy workloads benefit from a larger window.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public static <K> android.util.ConcurrentLruCache.EvictionPolicy<K> newWindowTinyLfuPolicy(float windowFraction) { throw new RuntimeException("Stub!"); }
+}
+
+}
+
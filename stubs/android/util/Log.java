@@ -46,6 +46,14 @@ package android.util;
  * another buffer allocation and copy, and even more pressure on the gc.
  * That means that if your log message is filtered out, you might be doing
  * significant work and incurring significant overhead.
+ *
+ * <p>Log calls normally write each message to the log synchronously. Code that logs
+ * heavily can call {@link #enableAsyncLogging(int,int)} to move that work off the
+ * calling thread: each thread then appends records to its own lock-free ring buffer,
+ * and a background thread drains the buffers and writes the records in batches. With
+ * {@link #println(int,java.lang.String,java.lang.String,java.lang.Object...)}, key/value
+ * arguments are only formatted on the background thread, and only if the record is
+ * loggable.
  * @apiSince 1
  */
 
@@ -303,6 +311,93 @@ public static java.lang.String getStackTraceString(@androidx.annotation.Nullable
 
 public static int println(int priority, @androidx.annotation.Nullable java.lang.String tag, @androidx.annotation.NonNull java.lang.String msg) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Logs a message followed by structured key/value arguments, in the form
+ * {@code msg key1=value1 key2=value2}.
+ * <p>
+ * Values are converted with {@link java.lang.String#valueOf(java.lang.Object) String#valueOf(Object)}
+ * only if the message is loggable for {@code tag} and {@code priority}, so arguments cost
+ * nothing to format when the message is filtered out. In asynchronous mode they are
+ * converted on the background thread, after this call has returned; pass immutable
+ * values, or values that are safe to read from another thread.
+ * </p>
+ *
+ * @param priority The priority/type of this log message
+ * Value is {@link android.util.Log#ASSERT}, {@link android.util.Log#ERROR}, {@link android.util.Log#WARN}, {@link android.util.Log#INFO}, {@link android.util.Log#DEBUG}, or {@link android.util.Log#VERBOSE}
+ * @param tag Used to identify the source of a log message.  It usually identifies
+ *        the class or activity where the log call occurs.
+ * This value may be {@code null}.
+ * @param msg The message you would like logged.
+ * This value must never be {@code null}.
+ * @param keyValues Alternating keys, which must be {@link java.lang.String String}s, and values.
+ * This value must never be {@code null}.
+ * @return The number of bytes written, or 0 if the message was queued or filtered out.
+ * @throws java.lang.IllegalArgumentException if {@code keyValues} has an odd length.
+ * @apiSince R
+ */
+
+public static int println(int priority, @androidx.annotation.Nullable java.lang.String tag, @androidx.annotation.NonNull java.lang.String msg, @androidx.annotation.NonNull java.lang.Object... keyValues) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Switches this process to asynchronous logging, or changes its settings if it is
+ * already enabled.
+ * <p>
+ * In asynchronous mode, log calls check {@link #isLoggable} and append a record to a
+ * ring buffer owned by the calling thread, without locking and without formatting.
+ * A background thread drains all buffers every few milliseconds and writes their
+ * records to the log in batches. Records of one thread keep their order; records of
+ * different threads are ordered by the time they were logged.
+ * </p><p>
+ * When a thread's buffer is full, {@code overflowPolicy} decides what happens:
+ * {@link #OVERFLOW_DROP_OLDEST} overwrites the oldest unwritten record, which never
+ * blocks the caller, while {@link #OVERFLOW_BLOCK} makes the caller wait until the
+ * background thread has drained the buffer. Dropped records are counted by
+ * {@link #getDroppedRecordCount()}, and a line reporting how many were lost is written
+ * in their place.
+ * </p><p>
+ * {@link #wtf} and {@link #ASSERT} messages are always written synchronously, after
+ * the records queued before them. Buffers are also flushed when the process is about
+ * to crash with an uncaught exception.
+ * </p>
+ *
+ * @param bufferCapacity The number of records each thread's buffer holds.
+ * Value is 16 or greater
+ * @param overflowPolicy Value is {@link android.util.Log#OVERFLOW_DROP_OLDEST}, or {@link android.util.Log#OVERFLOW_BLOCK}
+ * @apiSince R
+ */
+
+public static void enableAsyncLogging(int bufferCapacity, int overflowPolicy) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Writes all queued records and switches this process back to synchronous logging.
+ * @apiSince R
+ */
+
+public static void disableAsyncLogging() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether asynchronous logging is enabled.
+ * @apiSince R
+ */
+
+public static boolean isAsyncLoggingEnabled() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Blocks until every record queued before this call has been written to the log.
+ * Does nothing if asynchronous logging is not enabled.
+ * @apiSince R
+ */
+
+public static void flush() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of records dropped because a thread's buffer was full, since
+ * asynchronous logging was first enabled in this process.
+ * @apiSince R
+ */
+
+public static long getDroppedRecordCount() { throw new RuntimeException("Stub!"); }
+
 /**
  * Priority constant for the println method.
  * @apiSince 1
@@ -331,6 +426,22 @@ public static final int ERROR = 6; // 0x6
 
 public static final int INFO = 4; // 0x4
 
+/**
+ * Overflow policy for {@link #enableAsyncLogging(int,int)}: a thread whose buffer is
+ * full waits until there is room.
+ * @apiSince R
+ */
+
+public static final int OVERFLOW_BLOCK = 1; // 0x1
+
+/**
+ * Overflow policy for {@link #enableAsyncLogging(int,int)}: a thread whose buffer is
+ * full overwrites its oldest unwritten record.
+ * @apiSince R
+ */
+
+public static final int OVERFLOW_DROP_OLDEST = 0; // 0x0
+
 /**
  * Priority constant for the println method; use Log.v.
  * @apiSince 1
@@ -50,6 +50,26 @@ package android.util;
  *     }
  *   }}</pre>
  *
+ * <p>Caches shared by many threads may prefer
+ * {@link android.util.ConcurrentLruCache}, which does not serialize reads.
+ *
+ * <p>A cache constructed with a {@link android.util.LruCache.Config Config} can
+ * additionally expire entries a fixed time after they were written or last
+ * read, and can hold its values through soft or weak references so that
+ * they may be reclaimed by the garbage collector. Expired and reclaimed
+ * entries are removed incrementally: each {@link #get} and {@link #put}
+ * examines a bounded number of the eldest entries, so no single operation
+ * pays for a full sweep. Call {@link #cleanUp} to remove them all at once.
+ *
+ * <p>{@link #getAsync} coalesces concurrent misses: while a value for a key is
+ * being created, further callers share the pending
+ * {@link java.util.concurrent.CompletableFuture CompletableFuture} instead of
+ * creating it again. This holds whether or not the value is created off the
+ * calling thread, which only happens if the cache's
+ * {@link android.util.LruCache.Config Config} has a load executor or
+ * {@link #createAsync} is overridden; otherwise the first caller runs
+ * {@link #create} synchronously while later callers wait on its future.
+ *
  * <p>This class does not allow null to be used as a key or value. A return
  * value of null from {@link #get}, {@link #put} or {@link #remove} is
  * unambiguous: the key was not in the cache.
@@ -72,6 +92,19 @@ public class LruCache<K, V> {
 
 public LruCache(int maxSize) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Creates a cache with the expiration and value reference options in
+ * {@code config}.
+ *
+ * @param maxSize for caches that do not override {@link #sizeOf}, this is
+ *     the maximum number of entries in the cache. For all other caches,
+ *     this is the maximum sum of the sizes of the entries in this cache.
+ * @param config This value must never be {@code null}.
+ * @apiSince R
+ */
+
+public LruCache(int maxSize, @androidx.annotation.NonNull android.util.LruCache.Config config) { throw new RuntimeException("Stub!"); }
+
 /**
  * Sets the size of the cache.
  *
@@ -91,6 +124,35 @@ public void resize(int maxSize) { throw new RuntimeException("Stub!"); }
 
 public final V get(K key) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Returns a future for the value of {@code key}. If the value is cached the
+ * returned future is already complete. Otherwise the value is loaded with
+ * {@link #createAsync} and stored when the load completes; callers that
+ * ask for the same key while that load is in flight receive the same future,
+ * so {@link #createAsync} runs once per miss rather than once per caller.
+ *
+ * <p>The future completes with null if no value could be created, and
+ * completes exceptionally if {@link #createAsync} failed. A failed or null
+ * load is not cached, so the next call starts a new load.
+ *
+ * <p>The pending future for {@code key} is registered before the load is
+ * started, so concurrent misses are coalesced however the value is created.
+ * Unless {@link #createAsync} is overridden, a load runs {@link #create}
+ * on the executor set with
+ * {@link android.util.LruCache.Config.Builder#setLoadExecutor(java.util.concurrent.Executor) Config.Builder#setLoadExecutor(Executor)}.
+ * If the cache has no load executor, {@link #create} runs synchronously on
+ * the thread of the caller that missed first, and this method returns to
+ * that caller only once the value is created. Callers that ask for the same
+ * key meanwhile return at once with the same, still pending, future and
+ * never call {@link #create} themselves.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public final java.util.concurrent.CompletableFuture<V> getAsync(@androidx.annotation.NonNull K key) { throw new RuntimeException("Stub!"); }
+
 /**
  * Caches {@code value} for {@code key}. The value is moved to the head of
  * the queue.
@@ -130,8 +192,17 @@ public final V remove(K key) { throw new RuntimeException("Stub!"); }
  * <p>The method is called without synchronization: other threads may
  * access the cache while this method is executing.
  *
+ * <p><strong>Note:</strong> for a cache whose
+ * {@link android.util.LruCache.Config Config} holds values through soft or
+ * weak references, {@code oldValue} is null when the entry is removed
+ * because the garbage collector already reclaimed its value. Overrides in
+ * such caches must check {@code oldValue} for null before using it. For
+ * caches with strong values {@code oldValue} is never null.
+ *
  * @param evicted true if the entry is being removed to make space, false
  *     if the removal was caused by a {@link #put} or {@link #remove}.
+ * @param oldValue the removed value. Null only if it was held through a
+ *     soft or weak reference that has been reclaimed.
  * @param newValue the new value for {@code key}, if it exists. If non-null,
  *     this removal was caused by a {@link #put}. Otherwise it was caused by
  *     an eviction or a {@link #remove}.
@@ -159,6 +230,29 @@ protected void entryRemoved(boolean evicted, K key, V oldValue, V newValue) { th
 
 protected V create(K key) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Called by {@link #getAsync} after a cache miss to start computing a value
+ * for the corresponding key. The default implementation runs {@link #create}
+ * on the cache's load executor, see
+ * {@link android.util.LruCache.Config#getLoadExecutor() Config#getLoadExecutor()}.
+ * If there is none, it returns a future already completed with the result
+ * of {@link #create}, computed on the calling thread. Override it to load
+ * with an asynchronous API of your own.
+ *
+ * <p>The method is called without synchronization, at most once at a time
+ * per key for loads started through {@link #getAsync}: the key's pending
+ * future is registered before this method is called, so a caller that misses
+ * while it runs, even synchronously, shares that future. If a value for
+ * {@code key} is put in the cache before the returned future completes, the
+ * put value wins and the loaded value is released with {@link #entryRemoved}.
+ *
+ * @return This value must never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+protected java.util.concurrent.CompletableFuture<V> createAsync(@androidx.annotation.NonNull K key) { throw new RuntimeException("Stub!"); }
+
 /**
  * Returns the size of the entry for {@code key} and {@code value} in
  * user-defined units.  The default implementation returns 1 so that size
@@ -177,6 +271,19 @@ protected int sizeOf(K key, V value) { throw new RuntimeException("Stub!"); }
 
 public final void evictAll() { throw new RuntimeException("Stub!"); }
 
+/**
+ * Removes every entry that has expired or whose value has been reclaimed by
+ * the garbage collector, calling {@link #entryRemoved} with {@code evicted}
+ * set to true for each. Such entries are otherwise removed incrementally
+ * during {@link #get} and {@link #put}, and they are never returned.
+ *
+ * <p>For entries whose soft or weak value was reclaimed, {@code oldValue} is
+ * null when {@link #entryRemoved} is called.
+ * @apiSince R
+ */
+
+public final void cleanUp() { throw new RuntimeException("Stub!"); }
+
 /**
  * For caches that do not override {@link #sizeOf}, this returns the number
  * of entries in the cache. For all other caches, this returns the sum of
@@ -232,6 +339,31 @@ public final synchronized int putCount() { throw new RuntimeException("Stub!");
 
 public final synchronized int evictionCount() { throw new RuntimeException("Stub!"); }
 
+/**
+ * Returns a snapshot of this cache's statistics. The
+ * {@code int} counters such as {@link #hitCount} wrap around after
+ * {@link java.lang.Integer#MAX_VALUE Integer#MAX_VALUE} events; the counts in the
+ * returned snapshot do not.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public final android.util.CacheStats stats() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets a listener to be notified of hits, misses, {@link #create} calls and
+ * evictions as they happen, replacing any previous listener. The counters
+ * behind {@link #stats()} are maintained whether or not a listener is set.
+ *
+ * @param listener the listener, or null to remove the current one.
+ * This value may be {@code null}.
+ * @apiSince R
+ */
+
+public final void setStatsListener(@androidx.annotation.Nullable android.util.CacheStats.Listener listener) { throw new RuntimeException("Stub!"); }
+
 /**
  * Returns a copy of the current contents of the cache, ordered from least
  * recently accessed to most recently accessed.
@@ -243,5 +375,166 @@ public final synchronized java.util.Map<K,V> snapshot() { throw new RuntimeExcep
 /** @apiSince 12 */
 
 public final synchronized java.lang.String toString() { throw new RuntimeException("Stub!"); }
+/**
+ * Expiration and value reference options for an {@link android.util.LruCache LruCache}.
+ * Expiration times are measured with {@link android.os.SystemClock#elapsedRealtime() SystemClock#elapsedRealtime()}.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static final class Config {
+
+private Config() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns how long an entry stays in the cache after it was created or
+ * last replaced, in milliseconds, or 0 if entries do not expire after write.
+ *
+ * @see android.util.LruCache.Config.Builder#setExpireAfterWriteMillis(long)
+ * @apiSince R
+ */
+
+public long getExpireAfterWriteMillis() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns how long an entry stays in the cache after it was last read or
+ * written, in milliseconds, or 0 if entries do not expire after access.
+ *
+ * @see android.util.LruCache.Config.Builder#setExpireAfterAccessMillis(long)
+ * @apiSince R
+ */
+
+public long getExpireAfterAccessMillis() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns how values are referenced by the cache.
+ *
+ * @return Value is {@link android.util.LruCache.Config#VALUE_STRONG}, {@link android.util.LruCache.Config#VALUE_SOFT}, or {@link android.util.LruCache.Config#VALUE_WEAK}
+ * @see android.util.LruCache.Config.Builder#setValueReference(int)
+ * @apiSince R
+ */
+
+public int getValueReference() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the executor on which the default {@link android.util.LruCache#createAsync LruCache#createAsync}
+ * runs {@link android.util.LruCache#create LruCache#create}, or null if it runs on the calling thread.
+ *
+ * @see android.util.LruCache.Config.Builder#setLoadExecutor(java.util.concurrent.Executor)
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public java.util.concurrent.Executor getLoadExecutor() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Values are held through {@link java.lang.ref.SoftReference SoftReference}s
+ * and may be reclaimed when the system runs low on memory. The cache still
+ * counts their {@link android.util.LruCache#sizeOf LruCache#sizeOf} until the
+ * reclaimed entry is cleaned up.
+ * @apiSince R
+ */
+
+public static final int VALUE_SOFT = 1; // 0x1
+
+/**
+ * Values are held through strong references and only leave the cache when
+ * evicted, expired or removed. This is the default.
+ * @apiSince R
+ */
+
+public static final int VALUE_STRONG = 0; // 0x0
+
+/**
+ * Values are held through {@link java.lang.ref.WeakReference WeakReference}s
+ * and may be reclaimed as soon as nothing outside the cache references them.
+ * Useful to deduplicate live objects rather than to retain them.
+ * @apiSince R
+ */
+
+public static final int VALUE_WEAK = 2; // 0x2
+/**
+ * Builder for {@link android.util.LruCache.Config Config}.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static final class Builder {
+
+/** @apiSince R */
+
+public Builder() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Expires entries a fixed time after they were created or their value was
+ * last replaced. Reads do not extend the lifetime.
+ *
+ * @param durationMillis the lifetime in milliseconds, or 0 to disable.
+ * Value is 0 or greater
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.util.LruCache.Config.Builder setExpireAfterWriteMillis(long durationMillis) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Expires entries a fixed time after they were last read or written. Since
+ * the cache already keeps entries in access order, expired entries are
+ * found at the eldest end of the queue without scanning.
+ *
+ * <p>If both expiration modes are set, an entry expires as soon as either
+ * duration has elapsed.
+ *
+ * @param durationMillis the idle lifetime in milliseconds, or 0 to disable.
+ * Value is 0 or greater
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.util.LruCache.Config.Builder setExpireAfterAccessMillis(long durationMillis) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets how values are referenced by the cache.
+ *
+ * @param valueReference Value is {@link android.util.LruCache.Config#VALUE_STRONG}, {@link android.util.LruCache.Config#VALUE_SOFT}, or {@link android.util.LruCache.Config#VALUE_WEAK}
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.util.LruCache.Config.Builder setValueReference(int valueReference) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the executor on which {@link android.util.LruCache#getAsync LruCache#getAsync}
+ * creates missing values with {@link android.util.LruCache#create LruCache#create},
+ * unless {@link android.util.LruCache#createAsync LruCache#createAsync} is overridden.
+ * By default there is no load executor and values are created on the
+ * calling thread.
+ *
+ * @param executor the executor to load on, or null to load on the calling
+ * thread.
+ * This value may be {@code null}.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.util.LruCache.Config.Builder setLoadExecutor(@androidx.annotation.Nullable java.util.concurrent.Executor executor) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Creates a {@link android.util.LruCache.Config Config} with the options set on this builder.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.util.LruCache.Config build() { throw new RuntimeException("Stub!"); }
+}
+
+}
+
 }
 
@@ -35,6 +35,9 @@ package android.util;
  * and deleting entries in the array. For containers holding up to hundreds of items,
  * the performance difference is less than 50%.
  *
+ * <p>For containers holding thousands of items or more, consider
+ * {@link android.util.SparseHashArray}, which finds keys through a hash table instead.
+ *
  * <p>To help with performance, the container includes an optimization when removing
  * keys: instead of compacting its array immediately, it leaves the removed entry marked
  * as deleted. The entry can then be re-used for the same key or compacted later in
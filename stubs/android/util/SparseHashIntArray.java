@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.util;
+
+
+/**
+ * SparseHashIntArrays map integers to integers like {@link android.util.SparseIntArray}, but keep
+ * their mappings in an open-addressing hash table instead of a sorted array.
+ * Like SparseIntArray, it avoids auto-boxing keys and values and
+ * does not allocate an entry object for each mapping, but lookups, insertions
+ * and removals take constant expected time rather than a binary search plus an
+ * array shift. It is intended for containers holding thousands of items or
+ * more, where SparseIntArray becomes noticeably slower than a
+ * <a href="/reference/java/util/HashMap"><code>HashMap</code></a>. For
+ * containers holding up to hundreds of items, SparseIntArray uses less memory and
+ * is usually at least as fast.
+ *
+ * <p>Mappings are stored densely in parallel key and value arrays, and a
+ * separate table of slots, probed linearly from the mixed hash of the key,
+ * refers into those arrays. The slot table is grown whenever it becomes more
+ * than three quarters full. Removing a mapping moves the last mapping into its
+ * place, so removal never leaves tombstones behind and the dense arrays never
+ * contain gaps.
+ *
+ * <p>It is possible to iterate over the items in this container using
+ * {@link #keyAt(int)} and {@link #valueAt(int)} with indices in the range
+ * <code>0...size()-1</code>. Unlike SparseIntArray, the keys are <em>not</em>
+ * returned in ascending order by default: indices follow insertion order
+ * until the first removal. Call {@link #sortKeys()} to reorder the mappings
+ * so that <code>keyAt(int)</code> with ascending values of the index returns
+ * the keys in ascending order; that order holds until the next call that adds
+ * or removes a mapping. An index obtained from {@link #indexOfKey(int)} is
+ * likewise only valid until the next structural modification.
+ *
+ * <p>This class is not thread-safe.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public class SparseHashIntArray implements java.lang.Cloneable {
+
+/**
+ * Creates a new SparseHashIntArray containing no mappings.
+ * @apiSince R
+ */
+
+public SparseHashIntArray() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Creates a new SparseHashIntArray containing no mappings that will not
+ * require any additional memory allocation to store the specified
+ * number of mappings.  If you supply an initial capacity of 0, the
+ * array will be initialized with a light-weight representation
+ * not requiring any additional array allocations.
+ *
+ * @param initialCapacity the number of mappings to reserve space for.
+ * Value is 0 or greater
+ * @apiSince R
+ */
+
+public SparseHashIntArray(int initialCapacity) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Creates a new SparseHashIntArray containing the same mappings as {@code other},
+ * presized so that no rehashing is needed while copying them.
+ *
+ * @param other the array to copy the mappings from.
+ * This value must never be {@code null}.
+ * @apiSince R
+ */
+
+public SparseHashIntArray(@androidx.annotation.NonNull android.util.SparseIntArray other) { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public android.util.SparseHashIntArray clone() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Gets the int mapped from the specified key, or <code>0</code>
+ * if no such mapping has been made.
+ * @apiSince R
+ */
+
+public int get(int key) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Gets the int mapped from the specified key, or the specified value
+ * if no such mapping has been made.
+ * @apiSince R
+ */
+
+public int get(int key, int valueIfKeyNotFound) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns true if the key exists in the array. This is equivalent to
+ * {@link #indexOfKey(int)} &gt;= 0.
+ *
+ * @param key Potential key in the mapping
+ * @return true if the key is defined in the mapping
+ * @apiSince R
+ */
+
+public boolean contains(int key) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Removes the mapping from the specified key, if there was any.
+ * The last mapping in index order is moved into the freed index.
+ * @apiSince R
+ */
+
+public void delete(int key) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Removes the mapping at the given index. The last mapping in index order
+ * is moved into the freed index, so callers removing while iterating should
+ * iterate from <code>size()-1</code> down to 0.
+ *
+ * <p>For indices outside of the range <code>0...size()-1</code>, an
+ * {@link java.lang.ArrayIndexOutOfBoundsException ArrayIndexOutOfBoundsException} is thrown.</p>
+ * @apiSince R
+ */
+
+public void removeAt(int index) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Adds a mapping from the specified key to the specified value,
+ * replacing the previous mapping from the specified key if there
+ * was one.
+ * @apiSince R
+ */
+
+public void put(int key, int value) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Copies all of the mappings from {@code other} into this array,
+ * replacing any existing mappings for the same keys.
+ *
+ * @param other This value must never be {@code null}.
+ * @apiSince R
+ */
+
+public void putAll(@androidx.annotation.NonNull android.util.SparseIntArray other) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of key-value mappings that this SparseHashIntArray
+ * currently stores.
+ * @apiSince R
+ */
+
+public int size() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Given an index in the range <code>0...size()-1</code>, returns
+ * the key from the <code>index</code>th key-value mapping that this
+ * SparseHashIntArray stores.
+ *
+ * <p>The keys are in ascending order only after {@link #sortKeys()} and
+ * until the next structural modification.</p>
+ *
+ * <p>For indices outside of the range <code>0...size()-1</code>, an
+ * {@link java.lang.ArrayIndexOutOfBoundsException ArrayIndexOutOfBoundsException} is thrown.</p>
+ * @apiSince R
+ */
+
+public int keyAt(int index) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Given an index in the range <code>0...size()-1</code>, returns
+ * the value from the <code>index</code>th key-value mapping that this
+ * SparseHashIntArray stores.
+ *
+ * <p>For indices outside of the range <code>0...size()-1</code>, an
+ * {@link java.lang.ArrayIndexOutOfBoundsException ArrayIndexOutOfBoundsException} is thrown.</p>
+ * @apiSince R
+ */
+
+public int valueAt(int index) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Directly set the value at a particular index.
+ *
+ * <p>For indices outside of the range <code>0...size()-1</code>, an
+ * {@link java.lang.ArrayIndexOutOfBoundsException ArrayIndexOutOfBoundsException} is thrown.</p>
+ * @apiSince R
+ */
+
+public void setValueAt(int index, int value) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the index for which {@link #keyAt} would return the
+ * specified key, or a negative number if the specified
+ * key is not mapped.
+ * @apiSince R
+ */
+
+public int indexOfKey(int key) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns an index for which {@link #valueAt} would return the
+ * specified key, or a negative number if no keys map to the
+ * specified value.
+ * <p>Beware that this is a linear search, unlike lookups by key,
+ * and that multiple keys can map to the same value and this will
+ * find only one of them.
+ * @apiSince R
+ */
+
+public int indexOfValue(int value) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Reorders the mappings so that {@link #keyAt(int)} with ascending values
+ * of the index returns the keys in ascending order. The order is kept until
+ * the next call that adds or removes a mapping; replacing the value of an
+ * existing key does not disturb it. Sorting takes <code>O(n log n)</code>
+ * time and allocates no memory beyond a rebuilt slot table.
+ * @apiSince R
+ */
+
+public void sortKeys() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a new array containing the keys of this SparseHashIntArray in ascending
+ * order, without reordering the mappings themselves.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public int[] copyKeysSorted() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Ensures that this SparseHashIntArray can hold {@code minimumCapacity} mappings
+ * without rehashing.
+ *
+ * @param minimumCapacity Value is 0 or greater
+ * @apiSince R
+ */
+
+public void ensureCapacity(int minimumCapacity) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Removes all key-value mappings from this SparseHashIntArray. The backing arrays
+ * are kept so that the array can be refilled without reallocating.
+ * @apiSince R
+ */
+
+public void clear() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Shrinks the backing arrays to the smallest capacity that holds the
+ * current mappings without exceeding the maximum load factor.
+ * @apiSince R
+ */
+
+public void trimToSize() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public int hashCode() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns true if {@code that} is a SparseHashIntArray holding the same mappings as
+ * this one, regardless of index order.
+ * @apiSince R
+ */
+
+public boolean equals(java.lang.Object that) { throw new RuntimeException("Stub!"); }
+
+/**
+ * {@inheritDoc}
+ *
+ * <p>This implementation composes a string by iterating over its mappings
+ * in ascending key order.
+ * @apiSince R
+ */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+}
+
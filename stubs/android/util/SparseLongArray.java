@@ -33,6 +33,9 @@ package android.util;
  * and deleting entries in the array.  For containers holding up to hundreds of items,
  * the performance difference is not significant, less than 50%.</p>
  *
+ * <p>For containers holding thousands of items or more, consider
+ * {@link android.util.SparseHashLongArray}, which finds keys through a hash table instead.</p>
+ *
  * <p>It is possible to iterate over the items in this container using
  * {@link #keyAt(int)} and {@link #valueAt(int)}. Iterating over the keys using
  * <code>keyAt(int)</code> with ascending values of the index will return the
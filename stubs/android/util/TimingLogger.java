@@ -43,6 +43,11 @@ package android.util;
  *     D/TAG     ( 3459): methodA: end, 16 ms
  * </pre>
  *
+ * <p>While a {@link android.os.SpanRecorder SpanRecorder} is installed with
+ * {@link android.os.Trace#setSpanRecorder(android.os.SpanRecorder) Trace#setSpanRecorder},
+ * each split is also recorded on it as a span named after the split label, nested in
+ * a span named after the logger's label, whether or not the tag is loggable.</p>
+ *
  * @deprecated Use {@link android.os.Trace}, or
  *   <a href="https://developer.android.com/studio/profile/benchmark">Android Studio</a>. In
  *   general, milliseconds is the wrong granularity for method-level tracing. Rounding errors
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.view;
+
+
+/**
+ * Inflates layout resources on a background thread ahead of time and keeps the
+ * results in a pool, from which the UI thread takes them when it needs them.
+ *
+ * <p>Inflating a complex layout can take several milliseconds, which is significant
+ * when it happens during a scroll or while an activity starts. With this pool, an app
+ * calls {@link #prefetch(int,android.view.ViewGroup,int)} when it knows a layout will be
+ * needed soon, and {@link #acquire(int,android.view.ViewGroup)} when it is needed: if
+ * a prefetched hierarchy is available it is returned at no cost, and otherwise the
+ * layout is inflated on the calling thread as usual.
+ *
+ * <p>Inflation happens on a {@link android.os.Looper Looper} thread, by default a shared
+ * background thread, using a {@link android.view.LayoutInflater LayoutInflater} cloned from the
+ * pool's context. Views created there are not attached to a window, and their
+ * constructors run on that thread, so the following restrictions apply:
+ * <ul>
+ * <li>A view whose constructor creates a {@link android.os.Handler Handler} without an
+ * explicit {@link android.os.Looper Looper} binds it to the inflation thread.
+ * <li>Layouts that contain a {@code <fragment>} tag, or whose views throw when
+ * constructed off the UI thread, cannot be inflated in the background. Such a
+ * failure is logged once, counted in {@link android.view.AsyncLayoutPool.Stats#getFailedCount() Stats#getFailedCount()},
+ * and the layout is from then on only inflated on the UI thread.
+ * </ul>
+ * A hierarchy is only handed to the UI thread once its inflation has completed, so no
+ * view is ever accessed by both threads at the same time.
+ *
+ * <p>The number of idle hierarchies kept per layout is bounded by
+ * {@link #setMaxPoolSize(int,int)}. Views the app no longer needs can be returned with
+ * {@link #release(android.view.View)}; see also
+ * {@link android.widget.AbsListView#setLayoutPool(android.view.AsyncLayoutPool) AbsListView#setLayoutPool}.
+ * All methods other than the constructor must be called on the UI thread of the
+ * pool's context.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class AsyncLayoutPool {
+
+/**
+ * Creates a pool that inflates on a shared background thread.
+ *
+ * @param context The context views are inflated with.
+ * This value must never be {@code null}.
+ * @apiSince R
+ */
+
+public AsyncLayoutPool(@androidx.annotation.NonNull android.content.Context context) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Creates a pool that inflates on the thread of {@code inflationLooper}.
+ *
+ * @param context The context views are inflated with.
+ * This value must never be {@code null}.
+ * @param inflationLooper The looper of the thread to inflate on. It must not be the
+ * main looper.
+ * This value must never be {@code null}.
+ * @throws java.lang.IllegalArgumentException if {@code inflationLooper} is the main looper.
+ * @apiSince R
+ */
+
+public AsyncLayoutPool(@androidx.annotation.NonNull android.content.Context context, @androidx.annotation.NonNull android.os.Looper inflationLooper) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the maximum number of idle hierarchies of a layout kept in the pool. Prefetched
+ * or released hierarchies beyond the limit are discarded. The default is 4.
+ *
+ * @param layoutResId The id of a layout resource.
+ * @param maxSize Value is 0 or greater
+ * @apiSince R
+ */
+
+public void setMaxPoolSize(int layoutResId, int maxSize) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Starts inflating {@code count} hierarchies of a layout in the background, or fewer if
+ * the pool would otherwise exceed its maximum size for the layout.
+ *
+ * @param layoutResId The id of a layout resource.
+ * @param parent A view of the type the hierarchies will be added to, used to generate
+ * their layout parameters, or null. It is not modified.
+ * This value may be {@code null}.
+ * @param count Value is 1 or greater
+ * @apiSince R
+ */
+
+public void prefetch(int layoutResId, @androidx.annotation.Nullable android.view.ViewGroup parent, int count) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Inflates a hierarchy of a layout in the background and delivers it to
+ * {@code listener} on the UI thread, instead of putting it in the pool. If an idle
+ * hierarchy of the layout is already in the pool, it is delivered instead, in a
+ * later message.
+ *
+ * @param layoutResId The id of a layout resource.
+ * @param parent A view of the type the hierarchy will be added to, used to generate
+ * its layout parameters, or null. It is not modified.
+ * This value may be {@code null}.
+ * @param listener This value must never be {@code null}.
+ * @apiSince R
+ */
+
+public void inflateAsync(int layoutResId, @androidx.annotation.Nullable android.view.ViewGroup parent, @androidx.annotation.NonNull android.view.AsyncLayoutPool.OnInflateFinishedListener listener) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns an idle hierarchy of a layout from the pool, or inflates one on the calling
+ * thread if there is none. A background inflation of the layout that has not finished
+ * is not waited for.
+ *
+ * @param layoutResId The id of a layout resource.
+ * @param parent A view of the type the hierarchy will be added to, used to generate
+ * its layout parameters, or null. It is not modified.
+ * This value may be {@code null}.
+ * @return The root view of the hierarchy, not attached to a parent.
+ * This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.view.View acquire(int layoutResId, @androidx.annotation.Nullable android.view.ViewGroup parent) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns an idle hierarchy of a layout from the pool, or null if there is none.
+ *
+ * @param layoutResId The id of a layout resource.
+ * @return This value may be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public android.view.View poll(int layoutResId) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a hierarchy obtained from this pool, so that it can be handed out again. The
+ * view must not have a parent. Views that were not inflated by this pool, and views of
+ * a layout whose pool is full, are ignored.
+ *
+ * @param view The root view of the hierarchy.
+ * This value must never be {@code null}.
+ * @return true if the view was added to the pool.
+ * @throws java.lang.IllegalStateException if the view has a parent.
+ * @apiSince R
+ */
+
+public boolean release(@androidx.annotation.NonNull android.view.View view) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Cancels pending background inflations and discards all idle hierarchies.
+ * @apiSince R
+ */
+
+public void clear() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the counters of a layout.
+ *
+ * @param layoutResId The id of a layout resource.
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.view.AsyncLayoutPool.Stats getStats(int layoutResId) { throw new RuntimeException("Stub!"); }
+/**
+ * Receives a hierarchy inflated by {@link android.view.AsyncLayoutPool#inflateAsync AsyncLayoutPool#inflateAsync}.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static interface OnInflateFinishedListener {
+
+/**
+ * Called on the UI thread with the inflated hierarchy.
+ *
+ * @param view The root view of the hierarchy, not attached to a parent.
+ * This value must never be {@code null}.
+ * @param layoutResId The id of the layout resource.
+ * @param parent The parent passed to {@link android.view.AsyncLayoutPool#inflateAsync AsyncLayoutPool#inflateAsync}.
+ * This value may be {@code null}.
+ * @apiSince R
+ */
+
+public void onInflateFinished(@androidx.annotation.NonNull android.view.View view, int layoutResId, @androidx.annotation.Nullable android.view.ViewGroup parent);
+}
+
+/**
+ * A snapshot of the counters of one layout of an {@link android.view.AsyncLayoutPool AsyncLayoutPool}.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static final class Stats {
+
+private Stats() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of idle hierarchies in the pool.
+ * @apiSince R
+ */
+
+public int getPooledCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of calls to {@code acquire} or {@code poll} answered from the pool.
+ * @apiSince R
+ */
+
+public long getHitCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of calls to {@code acquire} or {@code poll} that found the pool
+ * empty.
+ * @apiSince R
+ */
+
+public long getMissCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of hierarchies inflated in the background.
+ * @apiSince R
+ */
+
+public long getBackgroundInflateCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of hierarchies inflated on the UI thread by {@code acquire}.
+ * @apiSince R
+ */
+
+public long getForegroundInflateCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of background inflations that threw.
+ * @apiSince R
+ */
+
+public long getFailedCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of hierarchies discarded because the pool was full or cleared.
+ * @apiSince R
+ */
+
+public long getDiscardedCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the total time spent inflating the layout, on either thread, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getTotalInflateTimeNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the longest time spent inflating the layout once, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getMaxInflateTimeNanos() { throw new RuntimeException("Stub!"); }
+
+/** @apiSince R */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+}
+
+}
+
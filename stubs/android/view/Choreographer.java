@@ -60,6 +60,10 @@ import android.os.SystemClock;
  * Each {@link android.os.Looper Looper} thread has its own choreographer.  Other threads can
  * post callbacks to run on the choreographer but they will run on the {@link android.os.Looper Looper}
  * to which the choreographer belongs.
+ * </p><p>
+ * Low-priority work such as prefetching or cache warming can be posted with
+ * {@link #postIdleInFrameCallback}, to run in the time left over after a frame has been
+ * produced instead of competing with it.
  * </p>
  * @apiSince 16
  */
@@ -122,6 +126,65 @@ public void postFrameCallbackDelayed(android.view.Choreographer.FrameCallback ca
  */
 
 public void removeFrameCallback(android.view.Choreographer.FrameCallback callback) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Posts a callback to run in the idle time of frames until it reports that it has no
+ * more work.
+ * <p>
+ * After the choreographer has finished the input, animation and traversal callbacks of
+ * a frame, it computes the deadline of the frame: the next vsync, minus a safety margin
+ * of one millisecond. While time remains before the deadline, it calls the queued idle
+ * callbacks in the order they were posted, passing the deadline. A callback should do
+ * work in small slices and return as soon as {@link java.lang.System#nanoTime() System#nanoTime()}
+ * passes the deadline; callbacks not reached before the deadline, and callbacks that
+ * return true, wait for the next frame. When no frame is pending, the queued callbacks
+ * run when the looper is idle, with a budget of one frame interval.
+ * </p><p>
+ * The callback runs on the {@link android.os.Looper Looper} thread of this choreographer. If
+ * it returns after the deadline the frame is counted by {@link #getIdleOverrunFrameCount()}.
+ * Posting a callback that is already queued has no effect.
+ * </p>
+ *
+ * @param callback This value must never be {@code null}.
+ * @see #removeIdleInFrameCallback
+ * @apiSince R
+ */
+
+public void postIdleInFrameCallback(@androidx.annotation.NonNull android.view.Choreographer.IdleInFrameCallback callback) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Removes a callback posted with {@link #postIdleInFrameCallback}. A callback that is
+ * running when this method is called from within it is not called again.
+ *
+ * @param callback This value must never be {@code null}.
+ * @apiSince R
+ */
+
+public void removeIdleInFrameCallback(@androidx.annotation.NonNull android.view.Choreographer.IdleInFrameCallback callback) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the interval between frames of the display this choreographer is attached
+ * to, in nanoseconds.
+ * @apiSince R
+ */
+
+public long getFrameIntervalNanos() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of frames in which idle callbacks ran.
+ * @apiSince R
+ */
+
+public long getIdleFrameCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of frames in which an idle callback returned after the deadline
+ * it was given. A growing count means callbacks are not slicing their work finely
+ * enough.
+ * @apiSince R
+ */
+
+public long getIdleOverrunFrameCount() { throw new RuntimeException("Stub!"); }
 /**
  * Implement this interface to receive a callback when a new display frame is
  * being rendered.  The callback is invoked on the {@link android.os.Looper Looper} thread to
@@ -159,5 +222,29 @@ public static interface FrameCallback {
 public void doFrame(long frameTimeNanos);
 }
 
+/**
+ * Implement this interface to run low-priority work in the idle time of display
+ * frames.
+ *
+ * @see android.view.Choreographer#postIdleInFrameCallback
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static interface IdleInFrameCallback {
+
+/**
+ * Called with time left in the current frame.
+ *
+ * @param deadlineNanos The time by which this method should return, in the
+ * {@link java.lang.System#nanoTime() System#nanoTime()} time base.
+ * @return true if work remains and the callback should be called again in a later
+ * frame, false to remove it.
+ * @apiSince R
+ */
+
+public boolean doIdleWork(long deadlineNanos);
+}
+
 }
 
@@ -41,6 +41,15 @@ import android.util.AttributeSet;
  * to use LayoutInflater with an XmlPullParser over a plain XML file at runtime;
  * it only works with an XmlPullParser returned from a compiled resource
  * (R.<em>something</em> file.)
+ *
+ * <p>
+ * Inflating a layout resource still parses its binary XML and creates each view
+ * through reflection. Layouts that are inflated often can instead be compiled at build
+ * time into Java code that constructs the same views directly; see
+ * {@link #setCompiledLayoutProvider}. Compiled layouts still offer each view to the
+ * installed {@link android.view.LayoutInflater.Factory Factory} or
+ * {@link android.view.LayoutInflater.Factory2 Factory2} through {@link #tryCreateView},
+ * so they keep working with libraries that install a factory to substitute views.
  * @apiSince 1
  */
 
@@ -172,6 +181,47 @@ public android.view.LayoutInflater.Filter getFilter() { throw new RuntimeExcepti
 
 public void setFilter(android.view.LayoutInflater.Filter filter) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Sets the provider of compiled layouts used by {@link #inflate(int,android.view.ViewGroup,boolean)}.
+ * The provider is copied to inflaters created with {@link #cloneInContext}.
+ * <p>
+ * A compiled layout is a factory generated from a layout resource by the build tools
+ * when layout compilation is enabled for the module. When inflating a resource, this
+ * inflater first asks the provider for a compiled layout; if the provider returns one,
+ * it is used to build the hierarchy without parsing XML, and otherwise the resource is
+ * inflated from XML as usual. Inflating from a parser always uses XML.
+ * </p><p>
+ * Compiled layouts are used whether or not a {@link android.view.LayoutInflater.Factory Factory}
+ * or {@link android.view.LayoutInflater.Factory2 Factory2} is set. The generated code passes
+ * each view's tag and attributes to {@link #tryCreateView} first, exactly as XML inflation
+ * would, and only constructs the compiled view class directly if no factory created a view.
+ * Layouts therefore still benefit from compilation in apps whose support library installs a
+ * {@link android.view.LayoutInflater.Factory2 Factory2} to substitute views. A
+ * {@link android.view.LayoutInflater.Filter Filter} can reject a view class after it was
+ * resolved, so compiled layouts are not used while one is set.
+ * </p><p>
+ * A provider must return null for a resource whose value in the current configuration
+ * is not the variant it was compiled from, for example because a resource overlay
+ * replaced it.
+ * </p>
+ *
+ * @param provider The provider, or null to always inflate from XML.
+ * This value may be {@code null}.
+ * @apiSince R
+ */
+
+public void setCompiledLayoutProvider(@androidx.annotation.Nullable android.view.LayoutInflater.CompiledLayoutProvider provider) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the provider set with {@link #setCompiledLayoutProvider}, or null.
+ *
+ * @return This value may be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public android.view.LayoutInflater.CompiledLayoutProvider getCompiledLayoutProvider() { throw new RuntimeException("Stub!"); }
+
 /**
  * Inflate a new view hierarchy from the specified xml resource. Throws
  * {@link android.view.InflateException InflateException} if there is an error.
@@ -307,6 +357,32 @@ public final android.view.View createView(java.lang.String name, java.lang.Strin
 @androidx.annotation.Nullable
 public final android.view.View createView(@androidx.annotation.NonNull android.content.Context viewContext, @androidx.annotation.NonNull java.lang.String name, @androidx.annotation.Nullable java.lang.String prefix, @androidx.annotation.Nullable android.util.AttributeSet attrs) throws java.lang.ClassNotFoundException, android.view.InflateException { throw new RuntimeException("Stub!"); }
 
+/**
+ * Offers a view to the factories set on this inflater, in the order XML inflation uses:
+ * the {@link android.view.LayoutInflater.Factory2 Factory2} or
+ * {@link android.view.LayoutInflater.Factory Factory}, then the private factory. Returns
+ * the view created by the first factory that creates one, or null if none is set or
+ * none handles the tag, in which case the caller should construct the view itself.
+ * <p>
+ * Code generated for a {@link android.view.LayoutInflater.CompiledLayoutProvider CompiledLayoutProvider}
+ * calls this for every view before using the compiled constructor.
+ * </p>
+ *
+ * @param parent The parent the view will be added to, or null.
+ * This value may be {@code null}.
+ * @param name The tag of the view in the layout, such as {@code TextView}.
+ * This value must never be {@code null}.
+ * @param context The context to create the view with.
+ * This value must never be {@code null}.
+ * @param attrs The attributes of the view in the layout resource.
+ * This value must never be {@code null}.
+ * @return This value may be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public final android.view.View tryCreateView(@androidx.annotation.Nullable android.view.View parent, @androidx.annotation.NonNull java.lang.String name, @androidx.annotation.NonNull android.content.Context context, @androidx.annotation.NonNull android.util.AttributeSet attrs) { throw new RuntimeException("Stub!"); }
+
 /**
  * This routine is responsible for creating the correct subclass of View
  * given the xml element name. Override it to handle custom view objects. If
@@ -359,6 +435,46 @@ protected android.view.View onCreateView(android.view.View parent, java.lang.Str
 
 @androidx.annotation.Nullable
 public android.view.View onCreateView(@androidx.annotation.NonNull android.content.Context viewContext, @androidx.annotation.Nullable android.view.View parent, @androidx.annotation.NonNull java.lang.String name, @androidx.annotation.Nullable android.util.AttributeSet attrs) throws java.lang.ClassNotFoundException { throw new RuntimeException("Stub!"); }
+/**
+ * Supplies layouts compiled ahead of time to a {@link android.view.LayoutInflater LayoutInflater}.
+ * Implementations are generated by the build tools; see
+ * {@link android.view.LayoutInflater#setCompiledLayoutProvider LayoutInflater#setCompiledLayoutProvider}.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static interface CompiledLayoutProvider {
+
+/**
+ * Builds the view hierarchy of the layout resource {@code resource}, or returns null
+ * if this provider has no compiled version of it that matches the resources of
+ * {@code context}, in which case the layout is inflated from XML.
+ * <p>
+ * The returned hierarchy must be equivalent to the one XML inflation would produce:
+ * each view is first offered to {@link android.view.LayoutInflater#tryCreateView LayoutInflater#tryCreateView},
+ * and otherwise the same view class is constructed with {@code context}, with the same
+ * attributes, ids and layout parameters, generated for {@code root} if it is not null. If
+ * {@code attachToRoot} is true, the views must be added to {@code root}, and
+ * {@code root} is returned.
+ * </p>
+ *
+ * @param inflater The inflater that is inflating the layout.
+ * This value must never be {@code null}.
+ * @param context The context to create views with, which may differ from the
+ * inflater's context for layouts that set a theme.
+ * This value must never be {@code null}.
+ * @param resource The id of a layout resource.
+ * @param root The view that will be the parent of the hierarchy, or null.
+ * This value may be {@code null}.
+ * @param attachToRoot Whether to add the hierarchy to {@code root}.
+ * @return This value may be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public android.view.View inflate(@androidx.annotation.NonNull android.view.LayoutInflater inflater, @androidx.annotation.NonNull android.content.Context context, int resource, @androidx.annotation.Nullable android.view.ViewGroup root, boolean attachToRoot);
+}
+
 /** @apiSince 1 */
 
 @SuppressWarnings({"unchecked", "deprecation", "all"})
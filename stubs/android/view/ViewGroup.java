@@ -1777,6 +1777,65 @@ protected void measureChild(android.view.View child, int parentWidthMeasureSpec,
 
 protected void measureChildWithMargins(android.view.View child, int parentWidthMeasureSpec, int widthUsed, int parentHeightMeasureSpec, int heightUsed) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Enables or disables caching of measure results for this view and its descendants.
+ * <p>
+ * Layouts such as {@link android.widget.RelativeLayout RelativeLayout} and a
+ * {@link android.widget.LinearLayout LinearLayout} with weights measure some children more
+ * than once per layout pass, often with the same measure specs, and nesting them
+ * multiplies the work. When the cache is enabled, each view of the subtree remembers
+ * the measured dimensions its {@link android.view.View#onMeasure(int,int) View#onMeasure(int,int)}
+ * produced for the last few pairs of width and height measure specs, and
+ * {@link android.view.View#measure(int,int) View#measure(int,int)} reuses them instead of calling
+ * {@link android.view.View#onMeasure(int,int) View#onMeasure(int,int)} again. A view's entries are
+ * discarded when {@link android.view.View#requestLayout() View#requestLayout()} or
+ * {@link android.view.View#forceLayout() View#forceLayout()} is called on it.
+ * </p><p>
+ * Every view already keeps its own measure cache, keyed by the same pair of measure
+ * specs. It keeps its entries across layout passes until
+ * {@link android.view.View#requestLayout() View#requestLayout()} clears them, but it is only
+ * consulted while the view has no pending layout request. A view that requested a layout,
+ * and each of its ancestors since the request propagates up, calls
+ * {@link android.view.View#onMeasure(int,int) View#onMeasure(int,int)} on every
+ * {@link android.view.View#measure(int,int) View#measure(int,int)} until it is laid out,
+ * which is exactly when the layouts above measure it repeatedly. The subtree cache answers
+ * those calls from the results recorded during the current pass only, and drops them when
+ * the pass ends. When the view has no pending layout request, its own cache is consulted
+ * first and this setting makes no difference. Disabling this setting never disables the
+ * view's own cache.
+ * </p><p>
+ * A cached result only restores the measured dimensions of the view, not those of its
+ * children. A layout may measure a child with specs A, then B, then A again; the third
+ * call is answered from the cache, but the child's own children still hold the sizes
+ * measured for B. As with the view's own cache, whenever a cached result is used for specs
+ * other than those of the view's last {@link android.view.View#onMeasure(int,int) View#onMeasure(int,int)}
+ * call, {@link android.view.View#onMeasure(int,int) View#onMeasure(int,int)} is run again
+ * with the cached specs before the view is laid out, so its children are always laid out
+ * with sizes measured for the specs the view was last given.
+ * </p><p>
+ * The setting applies to views added to the subtree later, unless a descendant group
+ * sets it explicitly. Only enable the cache for subtrees whose views request a layout
+ * whenever anything that affects their size changes, as the framework's views do; a
+ * view that changes its size without requesting a layout will keep being measured
+ * with a stale result.
+ * </p>
+ *
+ * @param enabled Whether to cache measure results in this subtree.
+ * @see android.view.ViewTreeObserver#addOnRedundantMeasureListener
+ * @apiSince R
+ */
+
+public void setMeasureCacheEnabled(boolean enabled) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether measure results are cached for this view group, either because
+ * {@link #setMeasureCacheEnabled(boolean)} was called on it or because it was inherited
+ * from an ancestor.
+ * @apiSince R
+ */
+
+public boolean isMeasureCacheEnabled() { throw new RuntimeException("Stub!"); }
+
 /**
  * Does the hard part of measureChildren: figuring out the MeasureSpec to
  * pass to a particular child. This method figures out the right MeasureSpec
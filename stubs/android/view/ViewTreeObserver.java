@@ -304,6 +304,45 @@ public void addOnSystemGestureExclusionRectsChangedListener(@androidx.annotation
 
 public void removeOnSystemGestureExclusionRectsChangedListener(@androidx.annotation.NonNull java.util.function.Consumer<java.util.List<android.graphics.Rect>> listener) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Register a callback to be invoked after each layout pass for every view of the tree
+ * that was measured more than {@code maxMeasuresPerPass} times during that pass. A
+ * frame normally runs one layout pass, but a view that requests a layout while being
+ * laid out causes a second pass in the same frame, and the counts start over for it.
+ * <p>
+ * While at least one such listener is registered, every view counts the calls to
+ * {@link android.view.View#measure(int,int) View#measure(int,int)}, to
+ * {@link android.view.View#onMeasure(int,int) View#onMeasure(int,int)} and to
+ * {@link android.view.View#layout(int,int,int,int) View#layout(int,int,int,int)} it receives in
+ * each traversal, which slows layout down. This is meant for debugging: views reported
+ * with a high measure count, and the layouts containing them, are the ones worth
+ * flattening or caching with
+ * {@link android.view.ViewGroup#setMeasureCacheEnabled(boolean) ViewGroup#setMeasureCacheEnabled(boolean)}.
+ * </p>
+ *
+ * @param maxMeasuresPerPass The number of measures per layout pass above which a view
+ * is reported.
+ * Value is 1 or greater
+ * @param listener The callback to add
+ * This value must never be {@code null}.
+ * @throws java.lang.IllegalStateException If {@link #isAlive()} returns false
+ * @apiSince R
+ */
+
+public void addOnRedundantMeasureListener(int maxMeasuresPerPass, @androidx.annotation.NonNull android.view.ViewTreeObserver.OnRedundantMeasureListener listener) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Remove a previously installed redundant measure callback.
+ *
+ * @param victim The callback to remove
+ * This value must never be {@code null}.
+ * @throws java.lang.IllegalStateException If {@link #isAlive()} returns false
+ * @see #addOnRedundantMeasureListener
+ * @apiSince R
+ */
+
+public void removeOnRedundantMeasureListener(@androidx.annotation.NonNull android.view.ViewTreeObserver.OnRedundantMeasureListener victim) { throw new RuntimeException("Stub!"); }
+
 /**
  * Indicates whether this ViewTreeObserver is alive. When an observer is not alive,
  * any call to a method (except this one) will throw an exception.
@@ -437,6 +476,36 @@ public static interface OnPreDrawListener {
 public boolean onPreDraw();
 }
 
+/**
+ * Interface definition for a callback to be invoked when a view was measured more
+ * often than expected during a layout pass.
+ *
+ * @see android.view.ViewTreeObserver#addOnRedundantMeasureListener
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static interface OnRedundantMeasureListener {
+
+/**
+ * Callback method to be invoked after a layout pass, once for each view that exceeded
+ * the listener's threshold.
+ *
+ * @param view The view.
+ * This value must never be {@code null}.
+ * @param measureCount The number of calls to {@link android.view.View#measure(int,int) View#measure(int,int)}
+ * the view received during the pass.
+ * @param onMeasureCount The number of those calls that ran
+ * {@link android.view.View#onMeasure(int,int) View#onMeasure(int,int)}, rather than being answered
+ * from a cache.
+ * @param layoutCount The number of calls to {@link android.view.View#layout(int,int,int,int) View#layout(int,int,int,int)}
+ * the view received during the pass.
+ * @apiSince R
+ */
+
+public void onRedundantMeasure(@androidx.annotation.NonNull android.view.View view, int measureCount, int onMeasureCount, int layoutCount);
+}
+
 /**
  * Interface definition for a callback to be invoked when
  * something in the view tree has been scrolled.
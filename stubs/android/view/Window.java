@@ -148,6 +148,10 @@ public final android.view.Window.Callback getCallback() { throw new RuntimeExcep
  * Set an observer to collect frame stats for each frame rendered in this window.
  *
  * Must be in hardware rendering mode.
+ *
+ * <p>To collect percentiles and jank counts over many frames, use a
+ * {@link android.view.WindowFrameMetricsAggregator WindowFrameMetricsAggregator} instead, which does not
+ * create an object for each frame.
  
  * @param listener This value must never be {@code null}.
  * @apiSince 24
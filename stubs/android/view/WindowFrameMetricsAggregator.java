@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package android.view;
+
+
+/**
+ * Aggregates the {@link android.view.FrameMetrics FrameMetrics} of every frame of a
+ * {@link android.view.Window Window} into histograms, from which percentiles and jank counts
+ * can be read at any time.
+ *
+ * <p>An aggregator reads each frame's timings directly from the buffer the renderer
+ * reports them in, instead of through
+ * {@link android.view.Window.OnFrameMetricsAvailableListener Window.OnFrameMetricsAvailableListener},
+ * so no {@link android.view.FrameMetrics FrameMetrics} object or {@link android.os.Handler Handler}
+ * message is created per frame, and recording a frame only increments preallocated
+ * counters on the renderer's reporting thread.
+ *
+ * <p>Each duration metric is recorded in a histogram that covers 1 microsecond to
+ * 10 seconds with a relative error below 1%, and values outside that range are
+ * clamped to it. A frame counts as janky when its
+ * {@link android.view.FrameMetrics#TOTAL_DURATION FrameMetrics#TOTAL_DURATION} exceeds the
+ * display's frame interval, and as frozen when it exceeds 700 milliseconds.
+ *
+ * <p>GPU time is not reported as a separate metric by the renderer; the time spent
+ * issuing commands and swapping buffers, {@link android.view.FrameMetrics#COMMAND_ISSUE_DURATION FrameMetrics#COMMAND_ISSUE_DURATION}
+ * and {@link android.view.FrameMetrics#SWAP_BUFFERS_DURATION FrameMetrics#SWAP_BUFFERS_DURATION},
+ * is where GPU back-pressure shows up.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public final class WindowFrameMetricsAggregator {
+
+/**
+ * Creates an aggregator and starts recording the frames of {@code window}. Hardware
+ * acceleration must be enabled for the window.
+ *
+ * @param window This value must never be {@code null}.
+ * @throws java.lang.IllegalStateException if the window is not hardware accelerated.
+ * @apiSince R
+ */
+
+public WindowFrameMetricsAggregator(@androidx.annotation.NonNull android.view.Window window) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a snapshot of the frames recorded since this aggregator was created or last
+ * reset. This method may be called from any thread.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.view.WindowFrameMetricsAggregator.Snapshot getSnapshot() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns a snapshot of the frames recorded so far, and starts a new interval.
+ *
+ * @return This value will never be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.NonNull
+public android.view.WindowFrameMetricsAggregator.Snapshot getSnapshotAndReset() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Discards the frames recorded so far.
+ * @apiSince R
+ */
+
+public void reset() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Stops recording frames. The frames recorded so far remain available.
+ * @apiSince R
+ */
+
+public void stop() { throw new RuntimeException("Stub!"); }
+/**
+ * An immutable summary of the frames of a window over an interval.
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static final class Snapshot {
+
+private Snapshot() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of frames recorded.
+ * @apiSince R
+ */
+
+public long getFrameCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of frames whose total duration exceeded the display's frame
+ * interval.
+ * @apiSince R
+ */
+
+public long getJankyFrameCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of frames whose total duration exceeded 700 milliseconds.
+ * @apiSince R
+ */
+
+public long getFrozenFrameCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of frames the renderer could not report because the
+ * aggregator's reporting thread fell behind. Their metrics are not included.
+ * @apiSince R
+ */
+
+public long getDroppedReportCount() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns an estimate of the given percentile of a duration metric, in nanoseconds,
+ * or 0 if no frame was recorded.
+ *
+ * @param metric Value is {@link android.view.FrameMetrics#UNKNOWN_DELAY_DURATION}, {@link android.view.FrameMetrics#INPUT_HANDLING_DURATION}, {@link android.view.FrameMetrics#ANIMATION_DURATION}, {@link android.view.FrameMetrics#LAYOUT_MEASURE_DURATION}, {@link android.view.FrameMetrics#DRAW_DURATION}, {@link android.view.FrameMetrics#SYNC_DURATION}, {@link android.view.FrameMetrics#COMMAND_ISSUE_DURATION}, {@link android.view.FrameMetrics#SWAP_BUFFERS_DURATION}, or {@link android.view.FrameMetrics#TOTAL_DURATION}
+ * @param percentile Value is between 0.0 and 100.0 inclusive
+ * @apiSince R
+ */
+
+public long getPercentileNanos(int metric, double percentile) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the largest recorded value of a duration metric, in nanoseconds, or 0 if no
+ * frame was recorded.
+ *
+ * @param metric Value is {@link android.view.FrameMetrics#UNKNOWN_DELAY_DURATION}, {@link android.view.FrameMetrics#INPUT_HANDLING_DURATION}, {@link android.view.FrameMetrics#ANIMATION_DURATION}, {@link android.view.FrameMetrics#LAYOUT_MEASURE_DURATION}, {@link android.view.FrameMetrics#DRAW_DURATION}, {@link android.view.FrameMetrics#SYNC_DURATION}, {@link android.view.FrameMetrics#COMMAND_ISSUE_DURATION}, {@link android.view.FrameMetrics#SWAP_BUFFERS_DURATION}, or {@link android.view.FrameMetrics#TOTAL_DURATION}
+ * @apiSince R
+ */
+
+public long getMaxNanos(int metric) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the mean of a duration metric, in nanoseconds, or 0 if no frame was recorded.
+ *
+ * @param metric Value is {@link android.view.FrameMetrics#UNKNOWN_DELAY_DURATION}, {@link android.view.FrameMetrics#INPUT_HANDLING_DURATION}, {@link android.view.FrameMetrics#ANIMATION_DURATION}, {@link android.view.FrameMetrics#LAYOUT_MEASURE_DURATION}, {@link android.view.FrameMetrics#DRAW_DURATION}, {@link android.view.FrameMetrics#SYNC_DURATION}, {@link android.view.FrameMetrics#COMMAND_ISSUE_DURATION}, {@link android.view.FrameMetrics#SWAP_BUFFERS_DURATION}, or {@link android.view.FrameMetrics#TOTAL_DURATION}
+ * @apiSince R
+ */
+
+public long getMeanNanos(int metric) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the p50, p90 and p99 and maximum of each metric, and the frame counts.
+ * @apiSince R
+ */
+
+public java.lang.String toString() { throw new RuntimeException("Stub!"); }
+}
+
+}
+
@@ -1180,6 +1180,108 @@ public int getBottomEdgeEffectColor() { throw new RuntimeException("Stub!"); }
 
 public void setRecyclerListener(android.widget.AbsListView.RecyclerListener listener) { throw new RuntimeException("Stub!"); }
 
+/**
+ * Sets a pool that views leaving this list's recycler are returned to.
+ * <p>
+ * When the recycler discards a view instead of keeping it for reuse, for example
+ * because the view has transient state, its type is no longer used, or the data set
+ * was invalidated, and the view was obtained from {@code pool}, it is passed to
+ * {@link android.view.AsyncLayoutPool#release(android.view.View) AsyncLayoutPool#release}.
+ * Views are also returned when the adapter changes and when the list is detached from
+ * its window. Together with an adapter whose {@code getView} calls
+ * {@link android.view.AsyncLayoutPool#acquire(int,android.view.ViewGroup) AsyncLayoutPool#acquire}
+ * when it has no view to convert, this lets several lists share prefetched item views.
+ * </p><p>
+ * The layout pool comes after the recycler: to obtain a view for a position, the list
+ * first looks for a scrap view of the position's type, in its
+ * {@link #setRecycledViewPool(android.widget.AbsListView.RecycledViewPool) RecycledViewPool}
+ * if one is set and in its own recycler otherwise, and passes it to {@code getView} as the
+ * view to convert. The list never takes views from the layout pool itself; only the
+ * adapter does, when it is given no view to convert. Conversely, a view only reaches the
+ * layout pool once the recycler lets it go, which includes a view dropped by a
+ * {@link android.widget.AbsListView.RecycledViewPool RecycledViewPool} because its type is
+ * at the limit set with
+ * {@link android.widget.AbsListView.RecycledViewPool#setMaxRecycledViews(int,int) RecycledViewPool#setMaxRecycledViews}.
+ * </p>
+ *
+ * @param pool The pool, or null to discard views as usual.
+ * This value may be {@code null}.
+ * @apiSince R
+ */
+
+public void setLayoutPool(@androidx.annotation.Nullable android.view.AsyncLayoutPool pool) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the pool this list keeps its scrap views in, replacing the list's own recycler
+ * storage. The views currently held by the recycler are moved to the new pool.
+ * <p>
+ * A pool can be shared by several lists and grids, so that a view scrolled out of one
+ * can be reused by another, provided that their adapters use the same
+ * {@link android.widget.Adapter#getItemViewType(int) Adapter#getItemViewType(int)} value for
+ * views that can be converted into one another. Unlike the default recycler, a pool
+ * limits the number of views it keeps for each type; see
+ * {@link android.widget.AbsListView.RecycledViewPool#setMaxRecycledViews(int,int) RecycledViewPool#setMaxRecycledViews}.
+ * The {@link android.widget.AbsListView.RecyclerListener RecyclerListener} is still told about every
+ * view moved to the pool.
+ * </p><p>
+ * When a {@link #setLayoutPool(android.view.AsyncLayoutPool) layout pool} is also set, this
+ * pool takes precedence: it is checked first for a view to convert, and views are kept here
+ * while there is room for their type. A view this pool drops to stay within its limit is
+ * passed to the layout pool of the list that was recycling it, which keeps it if it
+ * inflated the view and has room for its layout.
+ * </p>
+ *
+ * @param pool The pool, or null to go back to a recycler private to this list.
+ * This value may be {@code null}.
+ * @apiSince R
+ */
+
+public void setRecycledViewPool(@androidx.annotation.Nullable android.widget.AbsListView.RecycledViewPool pool) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the pool set with {@link #setRecycledViewPool}, or null if this list uses its
+ * own recycler.
+ *
+ * @return This value may be {@code null}.
+ * @apiSince R
+ */
+
+@androidx.annotation.Nullable
+public android.widget.AbsListView.RecycledViewPool getRecycledViewPool() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Enables or disables prefetching of items during flings.
+ * <p>
+ * While the list is flinging, it estimates from the current velocity of its scroller
+ * how far it will scroll over the next frames, and obtains the views of up to
+ * {@code maxItems} positions that are about to become visible from
+ * {@link android.widget.Adapter#getView(int,android.view.View,android.view.ViewGroup) Adapter#getView}
+ * ahead of time, converting recycled views as usual. This work is done with
+ * {@link android.view.Choreographer#postIdleInFrameCallback(android.view.Choreographer.IdleInFrameCallback) Choreographer#postIdleInFrameCallback},
+ * one position at a time, so it only uses time left over after each frame. Prefetched
+ * views are measured and kept until their position scrolls into view; they are
+ * returned to the recycler if the fling changes direction or ends before then, and
+ * discarded if the data set changes.
+ * </p><p>
+ * The adapter's {@code getView} must not depend on the position being visible, for
+ * example by starting animations, for prefetching to be transparent.
+ * </p>
+ *
+ * @param enabled Whether to prefetch items.
+ * @param maxItems The largest number of positions prefetched ahead of the visible ones.
+ * Value is 1 or greater
+ * @apiSince R
+ */
+
+public void setItemPrefetchEnabled(boolean enabled, int maxItems) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns whether items are prefetched during flings.
+ * @apiSince R
+ */
+
+public boolean isItemPrefetchEnabled() { throw new RuntimeException("Stub!"); }
+
 /**
  * Sets the selected item and positions the selection y pixels from the top edge
  * of the ListView. (If in touch mode, the item will not be selected but it will
@@ -1361,6 +1463,63 @@ public static final int SCROLL_STATE_IDLE = 0; // 0x0
 public static final int SCROLL_STATE_TOUCH_SCROLL = 1; // 0x1
 }
 
+/**
+ * A pool of scrap views, organized by view type, that can be shared by several lists
+ * and grids.
+ *
+ * @see android.widget.AbsListView#setRecycledViewPool(android.widget.AbsListView.RecycledViewPool)
+ * @apiSince R
+ */
+
+@SuppressWarnings({"unchecked", "deprecation", "all"})
+public static final class RecycledViewPool {
+
+/**
+ * Creates an empty pool that keeps up to 5 views of each type.
+ * @apiSince R
+ */
+
+public RecycledViewPool() { throw new RuntimeException("Stub!"); }
+
+/**
+ * Sets the maximum number of views of a type kept in the pool. Views of the type
+ * beyond the limit are discarded, the oldest first, or handed to the
+ * {@link android.view.AsyncLayoutPool AsyncLayoutPool} of the list that recycled them; see
+ * {@link android.widget.AbsListView#setLayoutPool(android.view.AsyncLayoutPool) AbsListView#setLayoutPool}.
+ *
+ * @param viewType A value returned by {@link android.widget.Adapter#getItemViewType(int) Adapter#getItemViewType(int)}.
+ * @param max Value is 0 or greater
+ * @apiSince R
+ */
+
+public void setMaxRecycledViews(int viewType, int max) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the maximum number of views of a type kept in the pool.
+ *
+ * @param viewType A value returned by {@link android.widget.Adapter#getItemViewType(int) Adapter#getItemViewType(int)}.
+ * @apiSince R
+ */
+
+public int getMaxRecycledViews(int viewType) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Returns the number of views of a type currently in the pool.
+ *
+ * @param viewType A value returned by {@link android.widget.Adapter#getItemViewType(int) Adapter#getItemViewType(int)}.
+ * @apiSince R
+ */
+
+public int getRecycledViewCount(int viewType) { throw new RuntimeException("Stub!"); }
+
+/**
+ * Discards all views in the pool.
+ * @apiSince R
+ */
+
+public void clear() { throw new RuntimeException("Stub!"); }
+}
+
 /**
  * A RecyclerListener is used to receive a notification whenever a View is placed
  * inside the RecycleBin's scrap heap. This listener is used to free resources